@@ -0,0 +1,122 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.benchmarks;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import de.rweisleder.archunit.spring.SpringAnnotationPredicates;
+import de.rweisleder.archunit.spring.SyntheticCodebase;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provides the imported classes of a {@link SyntheticCodebase} to the benchmarks.
+ */
+@State(Scope.Benchmark)
+public class CodebaseState {
+
+    /**
+     * The number of generated component classes.
+     */
+    @Param({"1000"})
+    public int classCount;
+
+    /**
+     * The number of methods with the same name but different parameters.
+     */
+    @Param({"1"})
+    public int overloadsPerMethod;
+
+    /**
+     * The number of classes per class hierarchy.
+     */
+    @Param({"1"})
+    public int hierarchyDepth;
+
+    /**
+     * Whether each level of a class hierarchy resides in its own package.
+     */
+    @Param({"false"})
+    public boolean crossPackageSubclasses;
+
+    /**
+     * Whether the caches of the library are cleared before each invocation,
+     * to measure the evaluation of a freshly imported code base.
+     */
+    @Param({"true", "false"})
+    public boolean clearCaches;
+
+    SyntheticCodebase codebase;
+    JavaClasses classes;
+    List<JavaMethod> methods;
+
+    @Setup(Level.Trial)
+    public void generateCodebase() {
+        codebase = SyntheticCodebase.ofSize(classCount)
+                .withOverloadsPerMethod(overloadsPerMethod)
+                .withHierarchyDepth(hierarchyDepth)
+                .withCrossPackageSubclasses(crossPackageSubclasses)
+                .generate();
+        withContextClassLoader(() -> {
+            classes = codebase.importClasses();
+            methods = new ArrayList<>();
+            for (JavaClass javaClass : classes) {
+                methods.addAll(javaClass.getMethods());
+            }
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCaches() {
+        if (clearCaches) {
+            SpringAnnotationPredicates.clearCache();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCodebase() throws IOException {
+        SpringAnnotationPredicates.clearCache();
+        codebase.close();
+    }
+
+    /**
+     * Runs the given action with a context class loader that can load the generated classes,
+     * as ArchUnit uses the context class loader to reflect imported classes.
+     */
+    void withContextClassLoader(Runnable action) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(codebase.getClassLoader());
+        try {
+            action.run();
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+}
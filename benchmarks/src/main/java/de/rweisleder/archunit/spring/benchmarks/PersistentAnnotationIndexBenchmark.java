@@ -0,0 +1,151 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.benchmarks;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import de.rweisleder.archunit.spring.SpringAnnotationPredicates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+
+/**
+ * Measures the evaluation of {@code springAnnotatedWith(..)} for all classes and methods of a code base in a new test run,
+ * with and without an {@link ArchUnitSpringConfiguration#getAnnotationIndexFile() annotation index file} written by a previous run.
+ * <p>
+ * The index only pays off in a new JVM, where the annotation types are not loaded and analyzed by Spring yet,
+ * so each measurement is a single evaluation in its own fork. The index file is written by a separate JVM beforehand,
+ * so that the measured JVM has not seen the annotation types either.
+ * ArchUnit calculates the MD5 sums of the imported classes, as recommended for the annotation index,
+ * so that the bytecode of the classes does not need to be read again.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = PersistentAnnotationIndexBenchmark.ENABLE_MD5_IN_CLASS_SOURCES)
+@State(Scope.Benchmark)
+public class PersistentAnnotationIndexBenchmark {
+
+    static final String ENABLE_MD5_IN_CLASS_SOURCES = "-Darchunit.enableMd5InClassSources=true";
+
+    private static final DescribedPredicate<CanBeAnnotated> annotatedWithComponent = springAnnotatedWith("org.springframework.stereotype.Component");
+    private static final DescribedPredicate<CanBeAnnotated> annotatedWithCacheable = springAnnotatedWith("org.springframework.cache.annotation.Cacheable");
+
+    /**
+     * Whether the annotations are looked up in the annotation index file.
+     */
+    @Param({"true", "false"})
+    public boolean annotationIndex;
+
+    private Path annotationIndexFile;
+
+    @Setup(Level.Trial)
+    public void writeAnnotationIndex(CodebaseState state) throws IOException, InterruptedException {
+        if (!annotationIndex) {
+            return;
+        }
+
+        annotationIndexFile = Files.createTempDirectory("archunit-spring-benchmark").resolve("annotation-index.bin");
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, ENABLE_MD5_IN_CLASS_SOURCES, "-cp", System.getProperty("java.class.path"),
+                PersistentAnnotationIndexBenchmark.class.getName(), annotationIndexFile.toString(),
+                String.valueOf(state.classCount), String.valueOf(state.overloadsPerMethod),
+                String.valueOf(state.hierarchyDepth), String.valueOf(state.crossPackageSubclasses))
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0 || !Files.isRegularFile(annotationIndexFile)) {
+            throw new IllegalStateException("Could not write annotation index " + annotationIndexFile);
+        }
+        ArchUnitSpringConfiguration.get().setAnnotationIndexFile(annotationIndexFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteAnnotationIndex() throws IOException {
+        ArchUnitSpringConfiguration.get().reset();
+        if (annotationIndexFile != null) {
+            Files.deleteIfExists(annotationIndexFile);
+            Files.deleteIfExists(annotationIndexFile.getParent());
+        }
+    }
+
+    @Benchmark
+    public int springAnnotatedWith_String(CodebaseState state) {
+        return count(state);
+    }
+
+    /**
+     * Writes the annotation index for the code base with the given parameters, like a previous test run.
+     */
+    public static void main(String[] args) throws IOException {
+        CodebaseState state = new CodebaseState();
+        state.classCount = Integer.parseInt(args[1]);
+        state.overloadsPerMethod = Integer.parseInt(args[2]);
+        state.hierarchyDepth = Integer.parseInt(args[3]);
+        state.crossPackageSubclasses = Boolean.parseBoolean(args[4]);
+        state.generateCodebase();
+        try {
+            ArchUnitSpringConfiguration.get().setAnnotationIndexFile(new File(args[0]).toPath());
+            count(state);
+            SpringAnnotationPredicates.saveAnnotationIndex();
+        } finally {
+            state.deleteCodebase();
+        }
+    }
+
+    private static int count(CodebaseState state) {
+        int[] count = {0};
+        state.withContextClassLoader(() -> {
+            for (JavaClass javaClass : state.classes) {
+                if (annotatedWithComponent.test(javaClass)) {
+                    count[0]++;
+                }
+            }
+            for (JavaMethod method : state.methods) {
+                if (annotatedWithCacheable.test(method)) {
+                    count[0]++;
+                }
+            }
+        });
+        return count[0];
+    }
+}
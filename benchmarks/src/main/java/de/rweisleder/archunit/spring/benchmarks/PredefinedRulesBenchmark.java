@@ -0,0 +1,89 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.benchmarks;
+
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the evaluation of each predefined {@link ArchRule} of the library against a code base.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PredefinedRulesBenchmark {
+
+    /**
+     * The rule to evaluate, in the form {@code <package>.<class>.<field>} relative to {@code de.rweisleder.archunit.spring}.
+     */
+    @Param({
+            "framework.SpringAsyncRules.AsyncMethodsAreProxyable",
+            "framework.SpringAsyncRules.AsyncMethodsHaveSuitableReturnType",
+            "framework.SpringAsyncRules.AsyncMethodsNotCalledFromSameClass",
+            "framework.SpringAsyncRules.EnableAsyncIsPresentIfAsyncMethodsExist",
+            "framework.SpringCacheRules.CacheableMethodsAreProxyable",
+            "framework.SpringCacheRules.CacheableMethodsNotCalledFromSameClass",
+            "framework.SpringCacheRules.EnableCachingIsPresentIfCacheableMethodsExist",
+            "retry.SpringRetryRules.RetryableMethodsAreProxyable",
+            "retry.SpringRetryRules.RetryableMethodsNotCalledFromSameClass",
+            "retry.SpringRetryRules.EnableRetryIsPresentIfRetryableMethodsExist",
+            "framework.SpringComponentRules.DependenciesOfControllers",
+            "framework.SpringComponentRules.DependenciesOfServices",
+            "framework.SpringComponentRules.DependenciesOfRepositories",
+            "framework.SpringControllerRules.ControllerNameWithoutRequestMapping",
+            "framework.SpringScheduledRules.EnableSchedulingIsPresentIfScheduledMethodsExist",
+            "boot.SpringBootRules.AllTypesInApplicationPackage",
+            "boot.SpringBootRules.ApplicationHasOnlyOneSpringBootConfiguration",
+    })
+    public String rule;
+
+    private ArchRule archRule;
+
+    @Setup(Level.Trial)
+    public void resolveRule() throws ReflectiveOperationException {
+        int fieldSeparator = rule.lastIndexOf('.');
+        Class<?> rulesClass = Class.forName("de.rweisleder.archunit.spring." + rule.substring(0, fieldSeparator));
+        archRule = (ArchRule) rulesClass.getField(rule.substring(fieldSeparator + 1)).get(null);
+    }
+
+    @Benchmark
+    public EvaluationResult evaluate(CodebaseState state) {
+        EvaluationResult[] result = new EvaluationResult[1];
+        state.withContextClassLoader(() -> result[0] = archRule.evaluate(state.classes));
+        return result[0];
+    }
+}
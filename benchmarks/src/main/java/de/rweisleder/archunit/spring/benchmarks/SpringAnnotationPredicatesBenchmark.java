@@ -0,0 +1,94 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.benchmarks;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tngtech.archunit.base.DescribedPredicate.describe;
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+
+/**
+ * Measures the evaluation of {@code springAnnotatedWith(..)} for all classes and methods of a code base.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpringAnnotationPredicatesBenchmark {
+
+    private static final DescribedPredicate<CanBeAnnotated> annotatedWithComponentClass = springAnnotatedWith(Component.class);
+    private static final DescribedPredicate<CanBeAnnotated> annotatedWithCacheableClass = springAnnotatedWith(Cacheable.class);
+
+    private static final DescribedPredicate<CanBeAnnotated> annotatedWithComponentName = springAnnotatedWith("org.springframework.stereotype.Component");
+    private static final DescribedPredicate<CanBeAnnotated> annotatedWithCacheableName = springAnnotatedWith("org.springframework.cache.annotation.Cacheable");
+
+    private static final DescribedPredicate<CanBeAnnotated> annotatedWithComponentMergedAnnotations = springAnnotatedWith(describe("@Component",
+            (MergedAnnotations annotations) -> annotations.isPresent(Component.class)));
+    private static final DescribedPredicate<CanBeAnnotated> annotatedWithCacheableMergedAnnotations = springAnnotatedWith(describe("@Cacheable",
+            (MergedAnnotations annotations) -> annotations.isPresent(Cacheable.class)));
+
+    @Benchmark
+    public int springAnnotatedWith_Class(CodebaseState state) {
+        return count(state, annotatedWithComponentClass, annotatedWithCacheableClass);
+    }
+
+    @Benchmark
+    public int springAnnotatedWith_String(CodebaseState state) {
+        return count(state, annotatedWithComponentName, annotatedWithCacheableName);
+    }
+
+    @Benchmark
+    public int springAnnotatedWith_MergedAnnotationsPredicate(CodebaseState state) {
+        return count(state, annotatedWithComponentMergedAnnotations, annotatedWithCacheableMergedAnnotations);
+    }
+
+    private static int count(CodebaseState state, DescribedPredicate<CanBeAnnotated> classPredicate, DescribedPredicate<CanBeAnnotated> methodPredicate) {
+        int[] count = {0};
+        state.withContextClassLoader(() -> {
+            for (JavaClass javaClass : state.classes) {
+                if (classPredicate.test(javaClass)) {
+                    count[0]++;
+                }
+            }
+            for (JavaMethod method : state.methods) {
+                if (methodPredicate.test(method)) {
+                    count[0]++;
+                }
+            }
+        });
+        return count[0];
+    }
+}
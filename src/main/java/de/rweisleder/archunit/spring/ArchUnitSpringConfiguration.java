@@ -0,0 +1,316 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Allows to configure how the predicates and conditions of this library evaluate the given classes.
+ * The configuration is global and applies to all predicates and conditions, similar to {@link ArchConfiguration}.
+ * <p>
+ * As an example:
+ * <pre>{@code
+ * ArchUnitSpringConfiguration.get().setMergedAnnotationsCacheEnabled(false);
+ * }</pre>
+ *
+ * @author Roland Weisleder
+ */
+public final class ArchUnitSpringConfiguration {
+
+    /**
+     * The default value for {@link #getMergedAnnotationsCacheSize()}.
+     */
+    public static final int DEFAULT_MERGED_ANNOTATIONS_CACHE_SIZE = 100_000;
+
+    /**
+     * The default value for {@link #getMetadataReaderCacheSize()}.
+     */
+    public static final int DEFAULT_METADATA_READER_CACHE_SIZE = 256;
+
+    private static final ArchUnitSpringConfiguration INSTANCE = new ArchUnitSpringConfiguration();
+
+    private volatile boolean mergedAnnotationsCacheEnabled;
+    private volatile int mergedAnnotationsCacheSize;
+    private volatile boolean resolveAnnotationsFromBytecodeOnly;
+    private volatile MetadataReaderFactory metadataReaderFactory;
+    private volatile int metadataReaderCacheSize;
+    private volatile Path annotationIndexFile;
+    private volatile boolean useCandidateComponentsIndex;
+    private volatile boolean verifyCandidateComponentsIndex;
+    private final List<EvaluationListener> evaluationListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean evaluationListenersRegistered;
+
+    private ArchUnitSpringConfiguration() {
+        reset();
+    }
+
+    /**
+     * Returns the global configuration.
+     */
+    public static ArchUnitSpringConfiguration get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Restores the default values of all configuration options and removes all registered evaluation listeners.
+     */
+    public synchronized void reset() {
+        mergedAnnotationsCacheEnabled = true;
+        mergedAnnotationsCacheSize = DEFAULT_MERGED_ANNOTATIONS_CACHE_SIZE;
+        resolveAnnotationsFromBytecodeOnly = false;
+        metadataReaderFactory = new SimpleMetadataReaderFactory();
+        metadataReaderCacheSize = DEFAULT_METADATA_READER_CACHE_SIZE;
+        annotationIndexFile = null;
+        useCandidateComponentsIndex = false;
+        verifyCandidateComponentsIndex = false;
+        evaluationListeners.clear();
+        evaluationListenersRegistered = false;
+    }
+
+    /**
+     * Returns whether the merged annotations that are resolved for an annotated element are cached,
+     * so that subsequent predicate evaluations for the same element do not need to resolve them again.
+     * Enabled by default.
+     * <p>
+     * Predicates that only check for the presence of annotation types, like
+     * {@link SpringAnnotationPredicates#springAnnotatedWith(Class)}, do not resolve merged annotations for elements
+     * of fully imported classes, as their annotations are already known from the import.
+     * So these predicates only use this cache for elements of classes that were not fully imported.
+     *
+     * @see SpringAnnotationPredicates#clearCache()
+     */
+    public boolean isMergedAnnotationsCacheEnabled() {
+        return mergedAnnotationsCacheEnabled;
+    }
+
+    /**
+     * @see #isMergedAnnotationsCacheEnabled()
+     */
+    public void setMergedAnnotationsCacheEnabled(boolean mergedAnnotationsCacheEnabled) {
+        this.mergedAnnotationsCacheEnabled = mergedAnnotationsCacheEnabled;
+    }
+
+    /**
+     * Returns the maximum number of annotated elements for which the merged annotations are cached.
+     * Once the cache is full, the least recently used entries are evicted.
+     * Entries are also removed automatically as soon as the corresponding classes are no longer referenced.
+     */
+    public int getMergedAnnotationsCacheSize() {
+        return mergedAnnotationsCacheSize;
+    }
+
+    /**
+     * @see #getMergedAnnotationsCacheSize()
+     */
+    public void setMergedAnnotationsCacheSize(int mergedAnnotationsCacheSize) {
+        if (mergedAnnotationsCacheSize < 0) {
+            throw new IllegalArgumentException("mergedAnnotationsCacheSize must not be negative");
+        }
+        this.mergedAnnotationsCacheSize = mergedAnnotationsCacheSize;
+    }
+
+    /**
+     * Returns whether annotations are resolved only from the annotations that ArchUnit has read from the bytecode.
+     * Disabled by default.
+     * <p>
+     * By default, the annotated classes are loaded via reflection (e.g. {@link com.tngtech.archunit.core.domain.JavaClass#reflect()})
+     * to let Spring evaluate their annotations.
+     * If this option is enabled, the annotated classes are never loaded, which reduces the memory consumption
+     * and the evaluation time for large code bases.
+     * Only the annotation types themselves are loaded, as Spring requires them to resolve meta-annotations
+     * and attribute aliases.
+     * <p>
+     * Note that in this mode, repeated annotations are only visible via their container annotation.
+     */
+    public boolean resolveAnnotationsFromBytecodeOnly() {
+        return resolveAnnotationsFromBytecodeOnly;
+    }
+
+    /**
+     * @see #resolveAnnotationsFromBytecodeOnly()
+     */
+    public void setResolveAnnotationsFromBytecodeOnly(boolean resolveAnnotationsFromBytecodeOnly) {
+        this.resolveAnnotationsFromBytecodeOnly = resolveAnnotationsFromBytecodeOnly;
+    }
+
+    /**
+     * Returns the factory that is used to read the metadata of classes from their bytecode
+     * if these classes cannot be loaded via reflection, e.g. because of missing dependencies.
+     * By default, this is a {@link SimpleMetadataReaderFactory} using the default class loader.
+     *
+     * @see #getMetadataReaderCacheSize()
+     */
+    public MetadataReaderFactory getMetadataReaderFactory() {
+        return metadataReaderFactory;
+    }
+
+    /**
+     * @see #getMetadataReaderFactory()
+     */
+    public void setMetadataReaderFactory(MetadataReaderFactory metadataReaderFactory) {
+        this.metadataReaderFactory = requireNonNull(metadataReaderFactory, "metadataReaderFactory must not be null");
+    }
+
+    /**
+     * Returns the maximum number of classes for which the metadata read by the {@link #getMetadataReaderFactory()
+     * MetadataReaderFactory} is cached. Once the cache is full, the least recently used entries are evicted.
+     * A size of {@code 0} disables the cache.
+     *
+     * @see SpringAnnotationPredicates#getMetadataReaderCacheStatistics()
+     * @see SpringAnnotationPredicates#clearCache(JavaClasses)
+     */
+    public int getMetadataReaderCacheSize() {
+        return metadataReaderCacheSize;
+    }
+
+    /**
+     * @see #getMetadataReaderCacheSize()
+     */
+    public void setMetadataReaderCacheSize(int metadataReaderCacheSize) {
+        if (metadataReaderCacheSize < 0) {
+            throw new IllegalArgumentException("metadataReaderCacheSize must not be negative");
+        }
+        this.metadataReaderCacheSize = metadataReaderCacheSize;
+    }
+
+    /**
+     * Returns the file in which the annotations of the imported classes are persisted between test runs,
+     * or {@code null} if they are not persisted, which is the default.
+     * <p>
+     * If a file is configured, the annotation types present on a class and its members are stored per class,
+     * keyed by the hash of its bytecode. Subsequent test runs look up the annotations of unchanged classes in the file
+     * and neither need to load their annotation types nor let Spring analyze their meta-annotations.
+     * The entry of a class is resolved again if the bytecode of the class, of any of its annotation types,
+     * or of any of their meta-annotations has changed.
+     * <p>
+     * The file is read on first use and written by {@link SpringAnnotationPredicates#saveAnnotationIndex()},
+     * e.g. after all rules have been checked. The bytecode hash of a class is taken from ArchUnit if
+     * {@link com.tngtech.archunit.ArchConfiguration#setMd5InClassSourcesEnabled(boolean) MD5 sums of class sources}
+     * are enabled, otherwise the bytecode is read again to compute it.
+     * <p>
+     * As an example:
+     * <pre>{@code
+     * ArchUnitSpringConfiguration.get().setAnnotationIndexFile(Paths.get("target", "archunit-spring", "annotation-index.bin"));
+     * }</pre>
+     */
+    public Path getAnnotationIndexFile() {
+        return annotationIndexFile;
+    }
+
+    /**
+     * @see #getAnnotationIndexFile()
+     */
+    public void setAnnotationIndexFile(Path annotationIndexFile) {
+        this.annotationIndexFile = annotationIndexFile;
+    }
+
+    /**
+     * Returns whether the candidate components index {@code META-INF/spring.components} that is generated by
+     * {@code spring-context-indexer} is used to determine the stereotypes of classes. Disabled by default.
+     * <p>
+     * Only enable this option if the index is generated by every build of the checked classes.
+     * The index is trusted without checking the annotations of the classes, so an outdated index causes wrong results.
+     * <p>
+     * An index only applies to the classes of the directory or JAR file it is contained in.
+     * Classes that are not listed in the index of their directory or JAR file are known to have no stereotype,
+     * so their annotations do not need to be resolved. The more specific stereotypes of the listed classes,
+     * like {@code @Service}, are not part of the index and are still resolved from their annotations.
+     *
+     * @see #verifyCandidateComponentsIndex()
+     * @see de.rweisleder.archunit.spring.framework.SpringComponentPredicates
+     */
+    public boolean useCandidateComponentsIndex() {
+        return useCandidateComponentsIndex;
+    }
+
+    /**
+     * @see #useCandidateComponentsIndex()
+     */
+    public void setUseCandidateComponentsIndex(boolean useCandidateComponentsIndex) {
+        this.useCandidateComponentsIndex = useCandidateComponentsIndex;
+    }
+
+    /**
+     * Returns whether the stereotypes that are determined via the {@link #useCandidateComponentsIndex() candidate
+     * components index} are cross-checked against the annotations of the classes. Disabled by default.
+     * <p>
+     * If this option is enabled, an outdated index causes an {@link IllegalStateException} instead of wrong results.
+     * As the annotations of all classes need to be resolved again, this is only useful to validate the index.
+     */
+    public boolean verifyCandidateComponentsIndex() {
+        return verifyCandidateComponentsIndex;
+    }
+
+    /**
+     * @see #verifyCandidateComponentsIndex()
+     */
+    public void setVerifyCandidateComponentsIndex(boolean verifyCandidateComponentsIndex) {
+        this.verifyCandidateComponentsIndex = verifyCandidateComponentsIndex;
+    }
+
+    /**
+     * Registers a listener that is notified about the evaluation of the predicates and rules of this library.
+     * No listener is registered by default, in which case the evaluation is not measured at all.
+     *
+     * @see EvaluationMetrics
+     */
+    public synchronized void addEvaluationListener(EvaluationListener evaluationListener) {
+        evaluationListeners.add(requireNonNull(evaluationListener, "evaluationListener must not be null"));
+        evaluationListenersRegistered = true;
+    }
+
+    /**
+     * @see #addEvaluationListener(EvaluationListener)
+     */
+    public synchronized void removeEvaluationListener(EvaluationListener evaluationListener) {
+        evaluationListeners.remove(evaluationListener);
+        evaluationListenersRegistered = !evaluationListeners.isEmpty();
+    }
+
+    /**
+     * Returns whether any evaluation listener is registered.
+     * In contrast to {@link #getEvaluationListeners()}, this only reads a single field and does not allocate,
+     * so it can be checked before every measurement.
+     *
+     * @see #addEvaluationListener(EvaluationListener)
+     */
+    public boolean hasEvaluationListeners() {
+        return evaluationListenersRegistered;
+    }
+
+    /**
+     * Returns the registered evaluation listeners.
+     *
+     * @see #addEvaluationListener(EvaluationListener)
+     */
+    public List<EvaluationListener> getEvaluationListeners() {
+        return unmodifiableList(evaluationListeners);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+
+/**
+ * Receives notifications about the evaluation of the predicates and rules of this library,
+ * e.g. to find out which rules are slow for a code base.
+ * Listeners are registered via {@link ArchUnitSpringConfiguration#addEvaluationListener(EvaluationListener)}.
+ * <p>
+ * The notifications are sent synchronously from the evaluating threads, possibly from several threads at the same time,
+ * so implementations must be thread-safe and should return quickly.
+ * All methods have an empty default implementation, so that implementations only need to override the relevant ones.
+ * <p>
+ * As an example, a listener can record the evaluation time of each rule as a JFR event on Java 11 or newer,
+ * to analyze a recording of the architecture tests in JDK Mission Control:
+ * <pre>{@code
+ * @Name("archunit.spring.RuleEvaluation")
+ * class RuleEvaluationEvent extends jdk.jfr.Event {
+ *     String rule;
+ *     long durationNanos;
+ * }
+ *
+ * ArchUnitSpringConfiguration.get().addEvaluationListener(new EvaluationListener() {
+ *     @Override
+ *     public void ruleEvaluated(String ruleDescription, long durationNanos) {
+ *         RuleEvaluationEvent event = new RuleEvaluationEvent();
+ *         event.rule = ruleDescription;
+ *         event.durationNanos = durationNanos;
+ *         event.commit();
+ *     }
+ * });
+ * }</pre>
+ *
+ * @author Roland Weisleder
+ * @see EvaluationMetrics
+ * @see MeasuredArchRule
+ */
+public interface EvaluationListener {
+
+    /**
+     * Called after a predicate of {@link SpringAnnotationPredicates} was evaluated for an element.
+     *
+     * @param predicateDescription the description of the predicate
+     * @param durationNanos        the time spent evaluating the predicate, in nanoseconds
+     */
+    default void predicateEvaluated(String predicateDescription, long durationNanos) {
+    }
+
+    /**
+     * Called after the merged annotations of an element were resolved because they were not cached.
+     * Checks for the mere presence of annotation types on elements of fully imported classes are answered from the
+     * annotations known from the import, so they do not resolve merged annotations and do not cause this call.
+     *
+     * @param annotated     the element whose merged annotations were resolved
+     * @param durationNanos the time spent resolving the merged annotations, in nanoseconds
+     */
+    default void mergedAnnotationsResolved(CanBeAnnotated annotated, long durationNanos) {
+    }
+
+    /**
+     * Called when the merged annotations of an element were taken from the cache.
+     * Like {@link #mergedAnnotationsResolved(CanBeAnnotated, long)}, this is not called for checks that are answered
+     * from the annotations known from the import.
+     *
+     * @see ArchUnitSpringConfiguration#isMergedAnnotationsCacheEnabled()
+     */
+    default void mergedAnnotationsCacheHit(CanBeAnnotated annotated) {
+    }
+
+    /**
+     * Called when the annotations of an element are read from the bytecode instead of via reflection,
+     * because the owning class could not be loaded.
+     * This is only the case if the merged annotations of the element are resolved at all,
+     * see {@link #mergedAnnotationsResolved(CanBeAnnotated, long)}.
+     */
+    default void reflectionFallback(CanBeAnnotated annotated) {
+    }
+
+    /**
+     * Called when the metadata of a class is requested from the metadata reader cache.
+     *
+     * @param className the name of the class
+     * @param cacheHit  whether the metadata was taken from the cache
+     * @see ArchUnitSpringConfiguration#getMetadataReaderCacheSize()
+     */
+    default void metadataReaderCacheAccessed(String className, boolean cacheHit) {
+    }
+
+    /**
+     * Called after a rule was evaluated via {@link MeasuredArchRule} or {@link ParallelEvaluation}.
+     *
+     * @param ruleDescription the description of the rule
+     * @param durationNanos   the wall time of the evaluation, in nanoseconds
+     */
+    default void ruleEvaluated(String ruleDescription, long durationNanos) {
+    }
+}
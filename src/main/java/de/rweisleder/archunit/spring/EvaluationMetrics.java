@@ -0,0 +1,192 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link EvaluationListener} that aggregates the notifications into counters,
+ * e.g. to print a summary after the architecture tests:
+ * <pre>{@code
+ * EvaluationMetrics metrics = new EvaluationMetrics();
+ * ArchUnitSpringConfiguration.get().addEvaluationListener(metrics);
+ *
+ * // evaluate rules
+ *
+ * System.out.println(metrics);
+ * }</pre>
+ * The counters can be updated and read concurrently.
+ *
+ * @author Roland Weisleder
+ */
+public final class EvaluationMetrics implements EvaluationListener {
+
+    private final Map<String, LongAdder> predicateEvaluationCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> predicateEvaluationNanos = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> ruleEvaluationNanos = new ConcurrentHashMap<>();
+    private final LongAdder mergedAnnotationsResolutionCount = new LongAdder();
+    private final LongAdder mergedAnnotationsResolutionNanos = new LongAdder();
+    private final LongAdder mergedAnnotationsCacheHitCount = new LongAdder();
+    private final LongAdder reflectionFallbackCount = new LongAdder();
+    private final LongAdder metadataReaderCacheHitCount = new LongAdder();
+    private final LongAdder metadataReaderCacheMissCount = new LongAdder();
+
+    @Override
+    public void predicateEvaluated(String predicateDescription, long durationNanos) {
+        counter(predicateEvaluationCounts, predicateDescription).increment();
+        counter(predicateEvaluationNanos, predicateDescription).add(durationNanos);
+    }
+
+    @Override
+    public void mergedAnnotationsResolved(CanBeAnnotated annotated, long durationNanos) {
+        mergedAnnotationsResolutionCount.increment();
+        mergedAnnotationsResolutionNanos.add(durationNanos);
+    }
+
+    @Override
+    public void mergedAnnotationsCacheHit(CanBeAnnotated annotated) {
+        mergedAnnotationsCacheHitCount.increment();
+    }
+
+    @Override
+    public void reflectionFallback(CanBeAnnotated annotated) {
+        reflectionFallbackCount.increment();
+    }
+
+    @Override
+    public void metadataReaderCacheAccessed(String className, boolean cacheHit) {
+        (cacheHit ? metadataReaderCacheHitCount : metadataReaderCacheMissCount).increment();
+    }
+
+    @Override
+    public void ruleEvaluated(String ruleDescription, long durationNanos) {
+        counter(ruleEvaluationNanos, ruleDescription).add(durationNanos);
+    }
+
+    /**
+     * Returns the number of evaluations per predicate description.
+     */
+    public Map<String, Long> getPredicateEvaluationCounts() {
+        return snapshot(predicateEvaluationCounts);
+    }
+
+    /**
+     * Returns the total evaluation time in nanoseconds per predicate description.
+     * Nested predicates are included in the time of the outer predicate.
+     */
+    public Map<String, Long> getPredicateEvaluationNanos() {
+        return snapshot(predicateEvaluationNanos);
+    }
+
+    /**
+     * Returns the total evaluation time in nanoseconds per rule description.
+     */
+    public Map<String, Long> getRuleEvaluationNanos() {
+        return snapshot(ruleEvaluationNanos);
+    }
+
+    /**
+     * Returns the number of elements whose merged annotations were resolved because they were not cached.
+     */
+    public long getMergedAnnotationsResolutionCount() {
+        return mergedAnnotationsResolutionCount.sum();
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent resolving merged annotations.
+     */
+    public long getMergedAnnotationsResolutionNanos() {
+        return mergedAnnotationsResolutionNanos.sum();
+    }
+
+    /**
+     * Returns the number of elements whose merged annotations were taken from the cache.
+     */
+    public long getMergedAnnotationsCacheHitCount() {
+        return mergedAnnotationsCacheHitCount.sum();
+    }
+
+    /**
+     * Returns the number of elements whose annotations were read from the bytecode
+     * because their owning class could not be loaded.
+     */
+    public long getReflectionFallbackCount() {
+        return reflectionFallbackCount.sum();
+    }
+
+    /**
+     * Returns the number of metadata reader lookups that were answered from the cache.
+     */
+    public long getMetadataReaderCacheHitCount() {
+        return metadataReaderCacheHitCount.sum();
+    }
+
+    /**
+     * Returns the number of metadata reader lookups that were not answered from the cache.
+     */
+    public long getMetadataReaderCacheMissCount() {
+        return metadataReaderCacheMissCount.sum();
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        predicateEvaluationCounts.clear();
+        predicateEvaluationNanos.clear();
+        ruleEvaluationNanos.clear();
+        mergedAnnotationsResolutionCount.reset();
+        mergedAnnotationsResolutionNanos.reset();
+        mergedAnnotationsCacheHitCount.reset();
+        reflectionFallbackCount.reset();
+        metadataReaderCacheHitCount.reset();
+        metadataReaderCacheMissCount.reset();
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String key) {
+        return counters.computeIfAbsent(key, __ -> new LongAdder());
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{"
+                + "predicateEvaluationCounts=" + getPredicateEvaluationCounts()
+                + ", predicateEvaluationNanos=" + getPredicateEvaluationNanos()
+                + ", ruleEvaluationNanos=" + getRuleEvaluationNanos()
+                + ", mergedAnnotationsResolutionCount=" + getMergedAnnotationsResolutionCount()
+                + ", mergedAnnotationsResolutionNanos=" + getMergedAnnotationsResolutionNanos()
+                + ", mergedAnnotationsCacheHitCount=" + getMergedAnnotationsCacheHitCount()
+                + ", reflectionFallbackCount=" + getReflectionFallbackCount()
+                + ", metadataReaderCacheHitCount=" + getMetadataReaderCacheHitCount()
+                + ", metadataReaderCacheMissCount=" + getMetadataReaderCacheMissCount()
+                + "}";
+    }
+}
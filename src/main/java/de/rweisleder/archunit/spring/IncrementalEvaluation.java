@@ -0,0 +1,263 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.Priority;
+import de.rweisleder.archunit.spring.boot.SpringBootRules;
+import de.rweisleder.archunit.spring.framework.SpringCacheRules;
+import de.rweisleder.archunit.spring.internal.BytecodeHash;
+import de.rweisleder.archunit.spring.internal.WholeApplicationRule;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.tngtech.archunit.base.DescribedPredicate.describe;
+
+/**
+ * Evaluates rules only for the classes that have changed since a baseline, and for the classes whose results
+ * may depend on them, e.g. to speed up the architecture tests of pull request builds.
+ * <p>
+ * As an example:
+ * <pre>{@code
+ * Path baseline = Paths.get("target", "archunit-spring", "baseline.txt");
+ * IncrementalEvaluation evaluation = IncrementalEvaluation.sinceBaseline(classes, baseline);
+ *
+ * evaluation.check(SpringCacheRules.CacheableMethodsAreProxyable);
+ * evaluation.check(SpringBootRules.ApplicationHasOnlyOneSpringBootConfiguration);
+ *
+ * IncrementalEvaluation.saveBaseline(classes, baseline);
+ * }</pre>
+ * Besides the changed classes themselves, the following classes are evaluated:
+ * <ul>
+ *     <li>their superclasses and subclasses, as proxying a method depends on the subclasses of its class,
+ *     and calls within a class hierarchy can bypass the proxy</li>
+ *     <li>their enclosing classes, as code of nested classes can call the methods of the enclosing instance</li>
+ *     <li>the classes that depend on them, e.g. as a changed stereotype affects the allowed dependencies to it</li>
+ * </ul>
+ * The predefined rules that check the application as a whole, like {@link SpringBootRules#ApplicationHasOnlyOneSpringBootConfiguration}
+ * or {@link SpringCacheRules#EnableCachingIsPresentIfCacheableMethodsExist}, are always evaluated for all classes.
+ * This also applies to rules derived from them via {@code because(..)}, {@code as(..)} or {@code allowEmptyShould(..)}.
+ * These rules are backed by the caches of this library, which summarize the stereotypes and features per class.
+ * Custom rules with such semantics, e.g. rules using the conditions of these predefined rules,
+ * must be evaluated via {@link #evaluateForAllClasses(ArchRule)}.
+ * <p>
+ * If no class is affected, the other rules are not evaluated at all. As the affected classes are only a part of the
+ * application, these rules pass even if none of the affected classes is checked by them, regardless of
+ * {@link ArchRule#allowEmptyShould(boolean)}.
+ *
+ * @author Roland Weisleder
+ */
+public final class IncrementalEvaluation {
+
+    private final JavaClasses allClasses;
+
+    private final Set<JavaClass> changedClasses;
+
+    private final JavaClasses affectedClasses;
+
+    private IncrementalEvaluation(JavaClasses allClasses, Set<JavaClass> changedClasses) {
+        this.allClasses = allClasses;
+        this.changedClasses = changedClasses;
+
+        Set<JavaClass> affectedClasses = new HashSet<>();
+        for (JavaClass changedClass : changedClasses) {
+            addAffectedClasses(changedClass, affectedClasses);
+        }
+        this.affectedClasses = allClasses.that(describe("affected by changes", affectedClasses::contains));
+    }
+
+    /**
+     * Creates an evaluation for the given changed classes, e.g. as determined from the changed source files.
+     * A class name also covers the classes nested in that class.
+     */
+    public static IncrementalEvaluation of(JavaClasses classes, Collection<String> changedClassNames) {
+        Set<String> names = new HashSet<>(changedClassNames);
+        Set<JavaClass> changedClasses = new HashSet<>();
+        for (JavaClass javaClass : classes) {
+            if (isContainedIn(javaClass, names)) {
+                changedClasses.add(javaClass);
+            }
+        }
+        return new IncrementalEvaluation(classes, changedClasses);
+    }
+
+    /**
+     * Creates an evaluation for the classes whose bytecode differs from the given baseline,
+     * including the classes that are not contained in the baseline.
+     * If the baseline does not exist, all classes are considered as changed.
+     *
+     * @see #saveBaseline(JavaClasses, Path)
+     */
+    public static IncrementalEvaluation sinceBaseline(JavaClasses classes, Path baselineFile) {
+        Map<String, BytecodeHash> baseline = readBaseline(baselineFile);
+        Set<JavaClass> changedClasses = new HashSet<>();
+        for (JavaClass javaClass : classes) {
+            BytecodeHash baselineHash = baseline.get(javaClass.getName());
+            Optional<BytecodeHash> currentHash = BytecodeHash.of(javaClass);
+            if (baselineHash == null || !currentHash.filter(baselineHash::equals).isPresent()) {
+                changedClasses.add(javaClass);
+            }
+        }
+        return new IncrementalEvaluation(classes, changedClasses);
+    }
+
+    /**
+     * Writes the bytecode hashes of the given classes as the baseline for subsequent evaluations,
+     * e.g. after all rules have been evaluated successfully for the main branch.
+     *
+     * @see #sinceBaseline(JavaClasses, Path)
+     */
+    public static void saveBaseline(JavaClasses classes, Path baselineFile) {
+        Map<String, BytecodeHash> hashes = new TreeMap<>();
+        for (JavaClass javaClass : classes) {
+            BytecodeHash.of(javaClass).ifPresent(hash -> hashes.put(javaClass.getName(), hash));
+        }
+
+        try {
+            Path directory = baselineFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            try (BufferedWriter writer = Files.newBufferedWriter(baselineFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, BytecodeHash> hash : hashes.entrySet()) {
+                    writer.write(hash.getValue() + " " + hash.getKey());
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write baseline " + baselineFile, e);
+        }
+    }
+
+    /**
+     * Returns the classes that have changed.
+     */
+    public Set<JavaClass> getChangedClasses() {
+        return Collections.unmodifiableSet(changedClasses);
+    }
+
+    /**
+     * Returns the changed classes and the classes whose results may depend on them.
+     */
+    public JavaClasses getAffectedClasses() {
+        return affectedClasses;
+    }
+
+    /**
+     * Evaluates the given rule for the {@link #getAffectedClasses() affected classes},
+     * or for all classes if the rule checks the application as a whole.
+     */
+    public EvaluationResult evaluate(ArchRule rule) {
+        if (checksWholeApplication(rule) || affectedClasses.size() == allClasses.size()) {
+            return evaluateForAllClasses(rule);
+        }
+        if (affectedClasses.isEmpty()) {
+            return new EvaluationResult(rule, Priority.MEDIUM);
+        }
+        return rule.allowEmptyShould(true).evaluate(affectedClasses);
+    }
+
+    /**
+     * Evaluates the given rule for all classes, e.g. because it checks the application as a whole.
+     */
+    public EvaluationResult evaluateForAllClasses(ArchRule rule) {
+        return rule.evaluate(allClasses);
+    }
+
+    /**
+     * Checks the given rule like {@link ArchRule#check(JavaClasses)}, but evaluates it like {@link #evaluate(ArchRule)}.
+     */
+    public void check(ArchRule rule) {
+        ArchRule.Assertions.assertNoViolation(evaluate(rule));
+    }
+
+    private static boolean checksWholeApplication(ArchRule rule) {
+        if (rule instanceof MeasuredArchRule) {
+            return checksWholeApplication(((MeasuredArchRule) rule).getRule());
+        }
+        return rule instanceof WholeApplicationRule;
+    }
+
+    private static void addAffectedClasses(JavaClass changedClass, Set<JavaClass> affectedClasses) {
+        affectedClasses.add(changedClass);
+        affectedClasses.addAll(changedClass.getAllRawSuperclasses());
+        affectedClasses.addAll(changedClass.getAllSubclasses());
+
+        Optional<JavaClass> enclosingClass = changedClass.getEnclosingClass();
+        while (enclosingClass.isPresent()) {
+            affectedClasses.add(enclosingClass.get());
+            enclosingClass = enclosingClass.get().getEnclosingClass();
+        }
+
+        for (Dependency dependency : changedClass.getDirectDependenciesToSelf()) {
+            affectedClasses.add(dependency.getOriginClass());
+        }
+    }
+
+    /**
+     * Returns whether the given class or any of its enclosing classes has one of the given names.
+     */
+    private static boolean isContainedIn(JavaClass javaClass, Set<String> classNames) {
+        Optional<JavaClass> currentClass = Optional.of(javaClass);
+        while (currentClass.isPresent()) {
+            if (classNames.contains(currentClass.get().getName())) {
+                return true;
+            }
+            currentClass = currentClass.get().getEnclosingClass();
+        }
+        return false;
+    }
+
+    private static Map<String, BytecodeHash> readBaseline(Path baselineFile) {
+        Map<String, BytecodeHash> baseline = new HashMap<>();
+        if (!Files.isRegularFile(baselineFile)) {
+            return baseline;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    baseline.put(line.substring(separator + 1), BytecodeHash.parse(line.substring(0, separator)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read baseline " + baselineFile, e);
+        }
+        return baseline;
+    }
+}
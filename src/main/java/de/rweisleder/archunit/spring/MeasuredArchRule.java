@@ -0,0 +1,105 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import de.rweisleder.archunit.spring.internal.EvaluationListeners;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Wraps a rule to report its evaluation time to the registered {@link EvaluationListener EvaluationListeners},
+ * e.g. to find the slowest rules of a test suite:
+ * <pre>{@code
+ * EvaluationMetrics metrics = new EvaluationMetrics();
+ * ArchUnitSpringConfiguration.get().addEvaluationListener(metrics);
+ *
+ * MeasuredArchRule.of(SpringCacheRules.CacheableMethodsAreProxyable).check(classes);
+ *
+ * System.out.println(metrics.getRuleEvaluationNanos());
+ * }</pre>
+ * Apart from that, the wrapped rule behaves exactly like the given rule.
+ *
+ * @author Roland Weisleder
+ * @see ArchUnitSpringConfiguration#addEvaluationListener(EvaluationListener)
+ */
+public final class MeasuredArchRule implements ArchRule {
+
+    private final ArchRule rule;
+
+    private MeasuredArchRule(ArchRule rule) {
+        this.rule = requireNonNull(rule, "rule must not be null");
+    }
+
+    /**
+     * Returns a rule that evaluates the given rule and reports its evaluation time.
+     */
+    public static MeasuredArchRule of(ArchRule rule) {
+        return rule instanceof MeasuredArchRule ? (MeasuredArchRule) rule : new MeasuredArchRule(rule);
+    }
+
+    @Override
+    public void check(JavaClasses classes) {
+        Assertions.check(this, classes);
+    }
+
+    @Override
+    public EvaluationResult evaluate(JavaClasses classes) {
+        if (!EvaluationListeners.isActive()) {
+            return rule.evaluate(classes);
+        }
+
+        long start = System.nanoTime();
+        EvaluationResult result = rule.evaluate(classes);
+        EvaluationListeners.ruleEvaluated(rule.getDescription(), System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public ArchRule because(String reason) {
+        return new MeasuredArchRule(rule.because(reason));
+    }
+
+    @Override
+    public ArchRule allowEmptyShould(boolean allowEmptyShould) {
+        return new MeasuredArchRule(rule.allowEmptyShould(allowEmptyShould));
+    }
+
+    @Override
+    public ArchRule as(String newDescription) {
+        return new MeasuredArchRule(rule.as(newDescription));
+    }
+
+    ArchRule getRule() {
+        return rule;
+    }
+
+    @Override
+    public String getDescription() {
+        return rule.getDescription();
+    }
+
+    @Override
+    public String toString() {
+        return rule.toString();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ClassesTransformer;
+import com.tngtech.archunit.lang.ConditionEvent;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.Priority;
+import de.rweisleder.archunit.spring.internal.EvaluationListeners;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates rules and conditions using several threads, to make use of all cores for large code bases.
+ * The results are the same as for a sequential evaluation, including the order of the violations,
+ * as long as the events created by checking an object only depend on that object,
+ * as for all conditions of this library.
+ * <p>
+ * Rules can be evaluated concurrently with each other, as each rule is evaluated on its own:
+ * <pre>{@code
+ * List<EvaluationResult> results = ParallelEvaluation.evaluate(asList(
+ *         SpringAsyncRules.AsyncMethodsAreProxyable,
+ *         SpringCacheRules.CacheableMethodsAreProxyable,
+ *         SpringBootRules.AllTypesInApplicationPackage
+ * ), classes);
+ * }</pre>
+ * A single condition can also be checked for several objects concurrently:
+ * <pre>{@code
+ * List<JavaMethod> methods = ...;
+ * ConditionEvents events = ParallelEvaluation.check(SpringProxyRules.beProxyable(), methods, ForkJoinPool.commonPool());
+ * }</pre>
+ * The predicates and conditions of this library are safe to be used this way.
+ * Custom conditions must be thread-safe to be checked concurrently for several objects.
+ * A rule or condition instance must not be evaluated by several evaluations at the same time.
+ * <p>
+ * The context class loader of the calling thread is also used by the worker threads,
+ * so that classes are loaded the same way as in a sequential evaluation.
+ * The evaluation time of each rule is reported to the registered {@link EvaluationListener EvaluationListeners}.
+ *
+ * @author Roland Weisleder
+ */
+public final class ParallelEvaluation {
+
+    private ParallelEvaluation() {
+    }
+
+    /**
+     * Evaluates the given rules against the given classes concurrently using the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @return the results of the rules, in the same order as the rules
+     */
+    public static List<EvaluationResult> evaluate(List<? extends ArchRule> rules, JavaClasses classes) {
+        return evaluate(rules, classes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Evaluates the given rules against the given classes concurrently using the given pool.
+     *
+     * @return the results of the rules, in the same order as the rules
+     */
+    public static List<EvaluationResult> evaluate(List<? extends ArchRule> rules, JavaClasses classes, ForkJoinPool pool) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        List<ForkJoinTask<EvaluationResult>> tasks = new ArrayList<>(rules.size());
+        for (ArchRule rule : rules) {
+            tasks.add(pool.submit(withContextClassLoader(contextClassLoader, () -> MeasuredArchRule.of(rule).evaluate(classes))));
+        }
+
+        List<EvaluationResult> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<EvaluationResult> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * Checks the given condition for the objects that are derived from the given classes,
+     * splitting the objects over the {@link ForkJoinPool#commonPool() common pool}.
+     * This is equivalent to {@code all(objectsToTest).should(condition).evaluate(classes)},
+     * except that the evaluation does not fail if there are no objects to test.
+     */
+    public static <T> EvaluationResult evaluate(ClassesTransformer<T> objectsToTest, ArchCondition<T> condition, JavaClasses classes) {
+        return evaluate(objectsToTest, condition, classes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Checks the given condition for the objects that are derived from the given classes,
+     * splitting the objects over the given pool.
+     *
+     * @see #evaluate(ClassesTransformer, ArchCondition, JavaClasses)
+     */
+    public static <T> EvaluationResult evaluate(ClassesTransformer<T> objectsToTest, ArchCondition<T> condition,
+                                                JavaClasses classes, ForkJoinPool pool) {
+        long start = EvaluationListeners.isActive() ? System.nanoTime() : 0;
+
+        List<T> objects = new ArrayList<>();
+        for (T object : objectsToTest.transform(classes)) {
+            objects.add(object);
+        }
+
+        ConditionEvents events = check(condition, objects, pool);
+        String description = objectsToTest.getDescription() + " should " + condition.getDescription();
+        if (EvaluationListeners.isActive()) {
+            EvaluationListeners.ruleEvaluated(description, System.nanoTime() - start);
+        }
+        return new EvaluationResult(() -> description, events, Priority.MEDIUM);
+    }
+
+    /**
+     * Checks the given condition for the given objects, splitting the objects over the given pool.
+     * The condition is initialized and finished in the calling thread, as in a sequential evaluation.
+     *
+     * @return the violating events of all checks, in the same order as the objects, followed by the events
+     * that the condition adds when it is finished. Like the events of a sequential evaluation,
+     * they do not contain the satisfied events.
+     */
+    public static <T> ConditionEvents check(ArchCondition<T> condition, List<T> objects, ForkJoinPool pool) {
+        condition.init(objects);
+
+        int chunkSize = Math.max(1, objects.size() / (pool.getParallelism() * 4));
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        List<ConditionEvent> violations = pool.invoke(new CheckTask<>(condition, objects, 0, objects.size(), chunkSize, contextClassLoader));
+
+        ConditionEvents events = ConditionEvents.Factory.create();
+        for (ConditionEvent violation : violations) {
+            events.add(violation);
+        }
+        condition.finish(events);
+        return events;
+    }
+
+    private static <V> Callable<V> withContextClassLoader(ClassLoader contextClassLoader, Callable<V> callable) {
+        return () -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader previousClassLoader = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                return callable.call();
+            } finally {
+                thread.setContextClassLoader(previousClassLoader);
+            }
+        };
+    }
+
+    private static final class CheckTask<T> extends RecursiveTask<List<ConditionEvent>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ArchCondition<T> condition;
+        private final List<T> objects;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final ClassLoader contextClassLoader;
+
+        private CheckTask(ArchCondition<T> condition, List<T> objects, int from, int to, int chunkSize, ClassLoader contextClassLoader) {
+            this.condition = condition;
+            this.objects = objects;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.contextClassLoader = contextClassLoader;
+        }
+
+        @Override
+        protected List<ConditionEvent> compute() {
+            if (to - from <= chunkSize) {
+                return checkChunk();
+            }
+
+            int middle = (from + to) >>> 1;
+            CheckTask<T> left = new CheckTask<>(condition, objects, from, middle, chunkSize, contextClassLoader);
+            CheckTask<T> right = new CheckTask<>(condition, objects, middle, to, chunkSize, contextClassLoader);
+            right.fork();
+            List<ConditionEvent> violations = new ArrayList<>(left.compute());
+            violations.addAll(right.join());
+            return violations;
+        }
+
+        private List<ConditionEvent> checkChunk() {
+            Thread thread = Thread.currentThread();
+            ClassLoader previousClassLoader = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                ConditionEvents events = ConditionEvents.Factory.create();
+                for (int i = from; i < to; i++) {
+                    condition.check(objects.get(i), events);
+                }
+                return new ArrayList<>(events.getViolating());
+            } finally {
+                thread.setContextClassLoader(previousClassLoader);
+            }
+        }
+    }
+}
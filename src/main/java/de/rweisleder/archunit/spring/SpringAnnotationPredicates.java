@@ -22,6 +22,7 @@ package de.rweisleder.archunit.spring;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.AccessTarget;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaCodeUnit;
 import com.tngtech.archunit.core.domain.JavaConstructor;
 import com.tngtech.archunit.core.domain.JavaField;
@@ -30,29 +31,35 @@ import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.core.domain.JavaParameter;
 import com.tngtech.archunit.core.domain.JavaStaticInitializer;
 import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.core.domain.properties.HasAnnotations;
+import de.rweisleder.archunit.spring.internal.CandidateComponentsIndex;
+import de.rweisleder.archunit.spring.internal.EvaluationListeners;
+import de.rweisleder.archunit.spring.internal.JavaAnnotationMergedAnnotations;
+import de.rweisleder.archunit.spring.internal.MergedAnnotationsCache;
+import de.rweisleder.archunit.spring.internal.MetaAnnotationIndex;
+import de.rweisleder.archunit.spring.internal.MetadataReaderCache;
+import de.rweisleder.archunit.spring.internal.MethodMetadataIndex;
+import de.rweisleder.archunit.spring.internal.PersistentAnnotationIndex;
+import de.rweisleder.archunit.spring.internal.ReflectionFailureCache;
+import de.rweisleder.archunit.spring.internal.ResolvedMemberCache;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex;
+import de.rweisleder.archunit.spring.internal.StereotypeIndex;
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotations;
-import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.MethodMetadata;
-import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.MetadataReader;
-import org.springframework.core.type.classreading.MetadataReaderFactory;
-import org.springframework.util.ReflectionUtils;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.LongPredicate;
 
 import static com.tngtech.archunit.base.DescribedPredicate.describe;
 import static com.tngtech.archunit.core.domain.Formatters.ensureSimpleName;
-import static de.rweisleder.archunit.spring.internal.InternalUtils.isSpringFramework6;
-import static java.util.Collections.emptyList;
 
 /**
  * Collection of {@link DescribedPredicate predicates} that can be used with ArchUnit to check elements for the
@@ -66,7 +73,19 @@ import static java.util.Collections.emptyList;
  */
 public final class SpringAnnotationPredicates {
 
-    private static final MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory();
+    private static final MetadataReaderCache metadataReaderCache = new MetadataReaderCache();
+
+    private static final MethodMetadataIndex methodMetadataIndex = new MethodMetadataIndex();
+
+    private static final MergedAnnotationsCache mergedAnnotationsCache = new MergedAnnotationsCache();
+
+    private static final MergedAnnotationsCache bytecodeMergedAnnotationsCache = new MergedAnnotationsCache();
+
+    private static final MetaAnnotationIndex metaAnnotationIndex = new MetaAnnotationIndex();
+
+    private static final ReflectionFailureCache reflectionFailureCache = new ReflectionFailureCache();
+
+    private static final ResolvedMemberCache resolvedMemberCache = new ResolvedMemberCache();
 
     private SpringAnnotationPredicates() {
     }
@@ -95,9 +114,7 @@ public final class SpringAnnotationPredicates {
      * @see CanBeAnnotated.Predicates#metaAnnotatedWith(Class)
      */
     public static DescribedPredicate<CanBeAnnotated> springAnnotatedWith(Class<? extends Annotation> annotationType) {
-        return springAnnotatedWith(describe("@" + annotationType.getSimpleName(), mergedAnnotations -> {
-            return mergedAnnotations.isPresent(annotationType);
-        }));
+        return springAnnotatedWithType(annotationType.getName(), "@" + annotationType.getSimpleName());
     }
 
     /**
@@ -125,9 +142,181 @@ public final class SpringAnnotationPredicates {
      * @see CanBeAnnotated.Predicates#metaAnnotatedWith(String)
      */
     public static DescribedPredicate<CanBeAnnotated> springAnnotatedWith(String annotationTypeName) {
-        return springAnnotatedWith(describe("@" + ensureSimpleName(annotationTypeName), mergedAnnotations -> {
+        return springAnnotatedWithType(annotationTypeName, "@" + ensureSimpleName(annotationTypeName));
+    }
+
+    /**
+     * Checks for the presence of the given annotation type via the {@link MetaAnnotationIndex}, so that the
+     * merged annotations only need to be resolved if the annotations of an element are not known from the import.
+     * Such elements are never loaded via reflection, so neither the cache of merged annotations nor the
+     * reflection fallback is involved.
+     */
+    private static DescribedPredicate<CanBeAnnotated> springAnnotatedWithType(String annotationTypeName, String description) {
+        DescribedPredicate<CanBeAnnotated> annotatedWith = annotatedWithMergedAnnotations(describe(description, mergedAnnotations -> {
             return mergedAnnotations.isPresent(annotationTypeName);
         }));
+
+        return measured(describe(annotatedWith.getDescription(), annotated -> {
+            HasAnnotations<?> importedAnnotated = asFullyImported(annotated);
+            if (importedAnnotated == null) {
+                return annotatedWith.test(annotated);
+            }
+
+            return metaAnnotationIndex.isPresent(importedAnnotated, annotationTypeName, considerRepeatedAnnotations());
+        }));
+    }
+
+    /**
+     * Returns a predicate that matches elements that are directly or meta-annotated with any of the given annotation types.
+     * This is equivalent to combining {@link #springAnnotatedWith(Class)} for each annotation type with
+     * {@link DescribedPredicate#or(DescribedPredicate) or}, but the annotations of an element are resolved only once.
+     * <p>
+     * As an example:
+     * <pre>{@code
+     * @RestController
+     * class DemoRestController {
+     * }
+     *
+     * // matches the class:
+     * springAnnotatedWithAnyOf(Controller.class, Configuration.class)
+     *
+     * // does not match the class:
+     * springAnnotatedWithAnyOf(Service.class, Repository.class)
+     * }</pre>
+     *
+     * @see #springAnnotatedWithAllOf(Class[])
+     */
+    @SafeVarargs
+    public static DescribedPredicate<CanBeAnnotated> springAnnotatedWithAnyOf(Class<? extends Annotation>... annotationTypes) {
+        return springAnnotatedWithAnyOf(annotationTypeNames(annotationTypes));
+    }
+
+    /**
+     * Returns a predicate that matches elements that are directly or meta-annotated with any of the given annotation types.
+     *
+     * @param annotationTypeNames the fully qualified class names of the annotation types to check
+     * @see #springAnnotatedWithAnyOf(Class[])
+     */
+    public static DescribedPredicate<CanBeAnnotated> springAnnotatedWithAnyOf(String... annotationTypeNames) {
+        return springAnnotatedWithTypes(annotationTypeNames, " or ", present -> present != 0);
+    }
+
+    /**
+     * Returns a predicate that matches elements that are directly or meta-annotated with all the given annotation types.
+     * This is equivalent to combining {@link #springAnnotatedWith(Class)} for each annotation type with
+     * {@link DescribedPredicate#and(DescribedPredicate) and}, but the annotations of an element are resolved only once.
+     * <p>
+     * As an example:
+     * <pre>{@code
+     * @RestController
+     * class DemoRestController {
+     * }
+     *
+     * // matches the class:
+     * springAnnotatedWithAllOf(Controller.class, ResponseBody.class)
+     *
+     * // does not match the class:
+     * springAnnotatedWithAllOf(Controller.class, Service.class)
+     * }</pre>
+     *
+     * @see #springAnnotatedWithAnyOf(Class[])
+     */
+    @SafeVarargs
+    public static DescribedPredicate<CanBeAnnotated> springAnnotatedWithAllOf(Class<? extends Annotation>... annotationTypes) {
+        return springAnnotatedWithAllOf(annotationTypeNames(annotationTypes));
+    }
+
+    /**
+     * Returns a predicate that matches elements that are directly or meta-annotated with all the given annotation types.
+     *
+     * @param annotationTypeNames the fully qualified class names of the annotation types to check
+     * @see #springAnnotatedWithAllOf(Class[])
+     */
+    public static DescribedPredicate<CanBeAnnotated> springAnnotatedWithAllOf(String... annotationTypeNames) {
+        long all = annotationTypeNames.length == 64 ? -1L : (1L << annotationTypeNames.length) - 1;
+        return springAnnotatedWithTypes(annotationTypeNames, " and ", present -> present == all);
+    }
+
+    // varargs, so that the public methods can pass their varargs parameter without risking heap pollution
+    @SafeVarargs
+    private static String[] annotationTypeNames(Class<? extends Annotation>... annotationTypes) {
+        String[] annotationTypeNames = new String[annotationTypes.length];
+        for (int i = 0; i < annotationTypes.length; i++) {
+            annotationTypeNames[i] = annotationTypes[i].getName();
+        }
+        return annotationTypeNames;
+    }
+
+    /**
+     * Checks for the presence of the given annotation types all at once. The result is a bit mask of the
+     * present annotation types, with bit {@code i} representing {@code annotationTypeNames[i]},
+     * which is then evaluated by the given predicate.
+     *
+     * @see #springAnnotatedWithType(String, String)
+     */
+    private static DescribedPredicate<CanBeAnnotated> springAnnotatedWithTypes(String[] annotationTypeNames, String delimiter,
+                                                                             LongPredicate presentAnnotationTypesMatch) {
+        if (annotationTypeNames.length == 0 || annotationTypeNames.length > 64) {
+            throw new IllegalArgumentException("Between 1 and 64 annotation types are supported, but got " + annotationTypeNames.length);
+        }
+
+        String[] typeNames = annotationTypeNames.clone();
+        StringJoiner description = new StringJoiner(delimiter);
+        for (String typeName : typeNames) {
+            description.add("@" + ensureSimpleName(typeName));
+        }
+
+        DescribedPredicate<CanBeAnnotated> annotatedWith = annotatedWithMergedAnnotations(describe(description.toString(), mergedAnnotations -> {
+            long present = 0;
+            for (int i = 0; i < typeNames.length; i++) {
+                if (mergedAnnotations.isPresent(typeNames[i])) {
+                    present |= 1L << i;
+                }
+            }
+            return presentAnnotationTypesMatch.test(present);
+        }));
+
+        return measured(describe(annotatedWith.getDescription(), annotated -> {
+            HasAnnotations<?> importedAnnotated = asFullyImported(annotated);
+            if (importedAnnotated == null) {
+                return annotatedWith.test(annotated);
+            }
+
+            long present = metaAnnotationIndex.presentAnnotationTypes(importedAnnotated, typeNames, considerRepeatedAnnotations());
+            return presentAnnotationTypesMatch.test(present);
+        }));
+    }
+
+    /**
+     * Repeated annotations are only visible via their container when resolving annotations from the bytecode,
+     * so the {@link MetaAnnotationIndex} must not consider them either in this mode.
+     */
+    private static boolean considerRepeatedAnnotations() {
+        return !ArchUnitSpringConfiguration.get().resolveAnnotationsFromBytecodeOnly();
+    }
+
+    /**
+     * Returns the given element if its annotations are completely known from the import, otherwise {@code null}.
+     */
+    private static HasAnnotations<?> asFullyImported(CanBeAnnotated annotated) {
+        if (annotated instanceof AccessTarget) {
+            Optional<JavaMember> accessedMember = resolvedMemberCache.resolveMember((AccessTarget) annotated);
+            return accessedMember.isPresent() ? asFullyImported(accessedMember.get()) : null;
+        }
+
+        if (annotated instanceof JavaClass) {
+            return ((JavaClass) annotated).isFullyImported() ? (JavaClass) annotated : null;
+        }
+
+        if (annotated instanceof JavaMember) {
+            return ((JavaMember) annotated).getOwner().isFullyImported() ? (JavaMember) annotated : null;
+        }
+
+        if (annotated instanceof JavaParameter) {
+            return ((JavaParameter) annotated).getOwner().getOwner().isFullyImported() ? (JavaParameter) annotated : null;
+        }
+
+        return null;
     }
 
     /**
@@ -150,6 +339,7 @@ public final class SpringAnnotationPredicates {
      * springAnnotatedWith(Service.class, describe("@Service('demo')", service -> service.value().equals("demo"))
      * }</pre>
      *
+     * @see #springAnnotatedWith(Class, String, DescribedPredicate)
      * @see CanBeAnnotated.Predicates#annotatedWith(DescribedPredicate)
      * @see CanBeAnnotated.Predicates#metaAnnotatedWith(DescribedPredicate)
      */
@@ -165,6 +355,80 @@ public final class SpringAnnotationPredicates {
         }));
     }
 
+    /**
+     * Returns a predicate that matches elements that are directly or meta-annotated with the given annotation type
+     * whose merged attribute with the given name matches the given predicate.
+     * <p>
+     * Contrary to {@link #springAnnotatedWith(Class, DescribedPredicate)}, the annotation is not synthesized,
+     * but the predicate is evaluated on the {@link MergedAnnotation#getValue(String) merged attribute value},
+     * i.e. considering attribute aliases.
+     * This avoids creating a proxy for each annotated element and also works if the annotated class
+     * cannot be loaded via reflection.
+     * <p>
+     * As an example:
+     * <pre>{@code
+     * @RestController("demo")
+     * class DemoRestController {
+     * }
+     *
+     * // matches the class:
+     * springAnnotatedWith(RestController.class, "value", describe("'demo'", value -> value.equals("demo")))
+     * springAnnotatedWith(Controller.class, "value", describe("'demo'", value -> value.equals("demo")))
+     * springAnnotatedWith(Component.class, "value", describe("'demo'", value -> value.equals("demo")))
+     *
+     * // does not match the class:
+     * springAnnotatedWith(Controller.class, "value", describe("''", value -> value.equals("")))
+     * springAnnotatedWith(Service.class, "value", describe("'demo'", value -> value.equals("demo")))
+     * }</pre>
+     *
+     * @param attributeName the name of the annotation attribute whose value is passed to the predicate
+     */
+    public static DescribedPredicate<CanBeAnnotated> springAnnotatedWith(Class<? extends Annotation> annotationType, String attributeName,
+                                                                         DescribedPredicate<Object> predicate) {
+        return springAnnotatedWithAttribute(annotationType.getName(), annotationType.getSimpleName(), attributeName, predicate);
+    }
+
+    /**
+     * Returns a predicate that matches elements that are directly or meta-annotated with the given annotation type
+     * whose merged attribute with the given name matches the given predicate.
+     *
+     * @param annotationTypeName the fully qualified class name of the annotation type to check
+     * @param attributeName      the name of the annotation attribute whose value is passed to the predicate
+     * @see #springAnnotatedWith(Class, String, DescribedPredicate)
+     */
+    public static DescribedPredicate<CanBeAnnotated> springAnnotatedWith(String annotationTypeName, String attributeName,
+                                                                         DescribedPredicate<Object> predicate) {
+        return springAnnotatedWithAttribute(annotationTypeName, ensureSimpleName(annotationTypeName), attributeName, predicate);
+    }
+
+    /**
+     * Elements of imported classes that do not have the annotation type according to the {@link MetaAnnotationIndex}
+     * are rejected without resolving their merged annotations.
+     */
+    private static DescribedPredicate<CanBeAnnotated> springAnnotatedWithAttribute(String annotationTypeName, String simpleName,
+                                                                                  String attributeName, DescribedPredicate<Object> predicate) {
+        String description = "@" + simpleName + "(" + attributeName + " " + predicate.getDescription() + ")";
+        DescribedPredicate<CanBeAnnotated> annotatedWith = annotatedWithMergedAnnotations(describe(description, mergedAnnotations -> {
+            MergedAnnotation<Annotation> mergedAnnotation = mergedAnnotations.get(annotationTypeName);
+            if (!mergedAnnotation.isPresent()) {
+                return false;
+            }
+
+            Optional<Object> value = mergedAnnotation.getValue(attributeName);
+            return value.isPresent() && predicate.test(value.get());
+        }));
+
+        return measured(describe(annotatedWith.getDescription(), annotated -> {
+            HasAnnotations<?> importedAnnotated = asFullyImported(annotated);
+            if (importedAnnotated != null
+                    && !metaAnnotationIndex.isPresent(importedAnnotated, annotationTypeName, considerRepeatedAnnotations())) {
+                return false;
+            }
+
+            return annotatedWith.test(annotated);
+        }));
+    }
+
     /**
      * Returns a predicate that matches elements that are directly or meta-annotated with annotations matching the
      * given predicate.
@@ -189,6 +453,10 @@ public final class SpringAnnotationPredicates {
      * @see CanBeAnnotated.Predicates#metaAnnotatedWith(DescribedPredicate)
      */
     public static DescribedPredicate<CanBeAnnotated> springAnnotatedWith(DescribedPredicate<MergedAnnotations> predicate) {
+        return measured(annotatedWithMergedAnnotations(predicate));
+    }
+
+    private static DescribedPredicate<CanBeAnnotated> annotatedWithMergedAnnotations(DescribedPredicate<MergedAnnotations> predicate) {
         return describe("annotated with " + predicate.getDescription(), annotated -> {
             MergedAnnotations mergedAnnotations = mergedAnnotations(annotated);
             if (mergedAnnotations == null) {
@@ -199,21 +467,187 @@ public final class SpringAnnotationPredicates {
         });
     }
 
+    /**
+     * Reports the evaluation time of the given predicate to the registered {@link EvaluationListener EvaluationListeners}.
+     */
+    private static DescribedPredicate<CanBeAnnotated> measured(DescribedPredicate<CanBeAnnotated> predicate) {
+        String description = predicate.getDescription();
+        return describe(description, annotated -> {
+            if (!EvaluationListeners.isActive()) {
+                return predicate.test(annotated);
+            }
+
+            long start = System.nanoTime();
+            boolean result = predicate.test(annotated);
+            EvaluationListeners.predicateEvaluated(description, System.nanoTime() - start);
+            return result;
+        });
+    }
+
+    /**
+     * Clears the cache of merged annotations that were resolved by the predicates of this class.
+     * This is usually not necessary, as cache entries are removed automatically as soon as the corresponding classes
+     * are no longer referenced.
+     *
+     * @see ArchUnitSpringConfiguration#isMergedAnnotationsCacheEnabled()
+     */
+    public static void clearCache() {
+        mergedAnnotationsCache.clear();
+        bytecodeMergedAnnotationsCache.clear();
+        metaAnnotationIndex.clear();
+        metadataReaderCache.clear();
+        methodMetadataIndex.clear();
+        reflectionFailureCache.clear();
+        resolvedMemberCache.clear();
+        SpringFeatureIndex.get().clear();
+        StereotypeIndex.get().clear();
+        CandidateComponentsIndex.get().clear();
+    }
+
+    /**
+     * Removes the cached information about the given classes, like the metadata that was read from their bytecode.
+     * This allows to release memory as soon as the evaluation of an import is finished,
+     * e.g. in long-running test JVMs that import several modules.
+     *
+     * @see ArchUnitSpringConfiguration#getMetadataReaderCacheSize()
+     */
+    public static void clearCache(JavaClasses javaClasses) {
+        for (JavaClass javaClass : javaClasses) {
+            metadataReaderCache.evict(javaClass.getName());
+            mergedAnnotationsCache.evict(javaClass);
+            bytecodeMergedAnnotationsCache.evict(javaClass);
+            reflectionFailureCache.evict(javaClass);
+            resolvedMemberCache.evict(javaClass);
+            SpringFeatureIndex.get().evict(javaClass);
+            StereotypeIndex.get().evict(javaClass);
+        }
+    }
+
+    /**
+     * Writes the annotation index to the {@link ArchUnitSpringConfiguration#getAnnotationIndexFile() configured file},
+     * so that the next test run can look up the annotations of unchanged classes.
+     * Entries of classes that were not checked since the file was read are removed.
+     * Does nothing if no file is configured or if the index has not changed.
+     * <p>
+     * As an example, in a JUnit 5 test class:
+     * <pre>{@code
+     * @AfterAll
+     * static void saveAnnotationIndex() {
+     *     SpringAnnotationPredicates.saveAnnotationIndex();
+     * }
+     * }</pre>
+     *
+     * @throws java.io.UncheckedIOException if the file cannot be written
+     */
+    public static void saveAnnotationIndex() {
+        PersistentAnnotationIndex annotationIndex = PersistentAnnotationIndex.get();
+        if (annotationIndex != null) {
+            annotationIndex.save();
+        }
+    }
+
+    /**
+     * Returns statistics about the cache of metadata that was read from the bytecode of classes
+     * that could not be loaded via reflection.
+     *
+     * @see ArchUnitSpringConfiguration#getMetadataReaderCacheSize()
+     */
+    public static CacheStatistics getMetadataReaderCacheStatistics() {
+        return new CacheStatistics(metadataReaderCache.getHitCount(), metadataReaderCache.getMissCount(), metadataReaderCache.size());
+    }
+
     private static MergedAnnotations mergedAnnotations(CanBeAnnotated annotated) {
-        try {
-            AnnotatedElement annotatedElement = asAnnotatedElement(annotated);
-            if (annotatedElement == null) {
+        if (annotated instanceof AccessTarget) {
+            // Resolving the accessed member allows to share the results for the member with all accesses to it.
+            Optional<JavaMember> accessedMember = resolvedMemberCache.resolveMember((AccessTarget) annotated);
+            if (!accessedMember.isPresent()) {
+                // If the accessedMember is not present, this indicates that the owning class of accessedMember was not imported.
+                // For strategies on handling such cases of missing classes, refer to the "Dealing with Missing Classes" section in the ArchUnit documentation.
+                // In such cases, the method AccessTarget#isAnnotatedWith(..) will return false.
                 return null;
             }
-            return MergedAnnotations.from(annotatedElement);
+            return mergedAnnotations(accessedMember.get());
+        }
+
+        if (ArchUnitSpringConfiguration.get().resolveAnnotationsFromBytecodeOnly()) {
+            return bytecodeMergedAnnotationsCache.get(annotated, SpringAnnotationPredicates::resolveMergedAnnotationsFromBytecode);
+        }
+        return mergedAnnotationsCache.get(annotated, SpringAnnotationPredicates::resolveMergedAnnotations);
+    }
+
+    private static MergedAnnotations resolveMergedAnnotationsFromBytecode(CanBeAnnotated annotated) {
+        if (annotated instanceof JavaStaticInitializer) {
+            // Contrary to the JLS, ArchUnit considers static initializers to have annotations.
+            return null;
+        }
+
+        if (annotated instanceof HasAnnotations) {
+            return mergedAnnotationsFromImportedAnnotations((HasAnnotations<?>) annotated);
+        }
+
+        throw new EvaluationException(annotated + " cannot be converted to " + MergedAnnotations.class);
+    }
+
+    private static MergedAnnotations resolveMergedAnnotations(CanBeAnnotated annotated) {
+        CanBeAnnotated reflectedElement = reflectedElement(annotated);
+        if (reflectedElement != null && reflectionFailureCache.hasFailed(reflectedElement)) {
+            return reflectionFallback(annotated);
+        }
+
+        if (reflectedElement instanceof JavaMember) {
+            // Loading the class first allows to tell whether the class or only the member cannot be loaded.
+            JavaClass owner = ((JavaMember) reflectedElement).getOwner();
+            try {
+                owner.reflect();
+            } catch (Exception | NoClassDefFoundError ignored) {
+                reflectionFailureCache.markAsFailed(owner);
+                return reflectionFallback(annotated);
+            }
+        }
+
+        try {
+            return mergedAnnotationsFromReflection(annotated);
         } catch (EvaluationException e) {
             throw e;
         } catch (Exception | NoClassDefFoundError ignored) {
+            if (reflectedElement != null) {
+                reflectionFailureCache.markAsFailed(reflectedElement);
+            }
+        }
+
+        return reflectionFallback(annotated);
+    }
+
+    private static MergedAnnotations mergedAnnotationsFromReflection(CanBeAnnotated annotated) {
+        AnnotatedElement annotatedElement = asAnnotatedElement(annotated);
+        if (annotatedElement == null) {
+            return null;
         }
+        return MergedAnnotations.from(annotatedElement);
+    }
 
+    private static MergedAnnotations reflectionFallback(CanBeAnnotated annotated) {
+        if (EvaluationListeners.isActive()) {
+            EvaluationListeners.reflectionFallback(annotated);
+        }
         return mergedAnnotationsFromMetadata(annotated);
     }
 
+    /**
+     * Returns the class or member that needs to be loaded to reflect the given element, or {@code null} if it is unknown.
+     */
+    private static CanBeAnnotated reflectedElement(CanBeAnnotated annotated) {
+        if (annotated instanceof JavaClass || annotated instanceof JavaMember) {
+            return annotated;
+        }
+
+        if (annotated instanceof JavaParameter) {
+            return ((JavaParameter) annotated).getOwner();
+        }
+
+        return null;
+    }
+
     private static AnnotatedElement asAnnotatedElement(CanBeAnnotated annotated) {
         if (annotated instanceof JavaClass) {
             return ((JavaClass) annotated).reflect();
@@ -251,85 +685,55 @@ public final class SpringAnnotationPredicates {
             }
         }
 
-        if (annotated instanceof AccessTarget) {
-            Optional<? extends JavaMember> accessedMember = ((AccessTarget) annotated).resolveMember();
-            if (!accessedMember.isPresent()) {
-                // If the accessedMember is not present, this indicates that the owning class of accessedMember was not imported.
-                // For strategies on handling such cases of missing classes, refer to the "Dealing with Missing Classes" section in the ArchUnit documentation.
-                // In such cases, the method AccessTarget#isAnnotatedWith(..) will return false.
-                return null;
-            }
-            return asAnnotatedElement(accessedMember.get());
-        }
-
         throw new EvaluationException(annotated + " cannot be converted to " + AnnotatedElement.class);
     }
 
     private static MergedAnnotations mergedAnnotationsFromMetadata(CanBeAnnotated annotated) {
         if (annotated instanceof JavaClass) {
-            AnnotationMetadata annotationMetadata = readAnnotationMetadata((JavaClass) annotated);
-            if (annotationMetadata == null) {
+            MetadataReader metadataReader = readMetadata((JavaClass) annotated);
+            if (metadataReader == null) {
                 return null;
             }
 
-            return annotationMetadata.getAnnotations();
+            return metadataReader.getAnnotationMetadata().getAnnotations();
         }
 
         if (annotated instanceof JavaMethod) {
-            AnnotationMetadata annotationMetadata = readAnnotationMetadata(((JavaMethod) annotated).getOwner());
-            if (annotationMetadata == null) {
-                return null;
+            MetadataReader metadataReader = readMetadata(((JavaMethod) annotated).getOwner());
+            if (metadataReader != null) {
+                MethodMetadata methodMetadata = methodMetadataIndex.find(metadataReader, (JavaMethod) annotated);
+                if (methodMetadata != null) {
+                    return methodMetadata.getAnnotations();
+                }
             }
 
-            MethodMetadata methodMetadata = findMethodMetadata(annotationMetadata, (JavaMethod) annotated);
-            if (methodMetadata == null) {
-                return null;
-            }
+            return mergedAnnotationsFromImportedAnnotations((JavaMethod) annotated);
+        }
 
-            return methodMetadata.getAnnotations();
+        if (annotated instanceof JavaField || annotated instanceof JavaConstructor || annotated instanceof JavaParameter) {
+            // Spring's class metadata does not cover these elements, so the annotations ArchUnit has read from the bytecode are used instead.
+            return mergedAnnotationsFromImportedAnnotations((HasAnnotations<?>) annotated);
         }
 
         return null;
     }
 
-    private static AnnotationMetadata readAnnotationMetadata(JavaClass javaClass) {
+    private static MergedAnnotations mergedAnnotationsFromImportedAnnotations(HasAnnotations<?> annotated) {
         try {
-            MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(javaClass.getName());
-            return metadataReader.getAnnotationMetadata();
-        } catch (IOException ignored) {
+            // The description is used as source instead of the element itself, so that the cached merged annotations
+            // do not keep the imported classes reachable.
+            return JavaAnnotationMergedAnnotations.from(annotated.toString(), annotated.getAnnotations());
+        } catch (Exception | LinkageError ignored) {
             return null;
         }
     }
 
-    private static MethodMetadata findMethodMetadata(AnnotationMetadata annotationMetadata, JavaMethod javaMethod) {
-        Collection<MethodMetadata> methodMetadataSet = emptyList();
-        if (isSpringFramework6()) {
-            methodMetadataSet = annotationMetadata.getDeclaredMethods();
-        } else {
-            Field annotatedMethodsField = ReflectionUtils.findField(annotationMetadata.getClass(), "annotatedMethods");
-            if (annotatedMethodsField != null) {
-                ReflectionUtils.makeAccessible(annotatedMethodsField);
-                MethodMetadata[] annotatedMethods = (MethodMetadata[]) ReflectionUtils.getField(annotatedMethodsField, annotationMetadata);
-                if (annotatedMethods != null) {
-                    methodMetadataSet = Arrays.asList(annotatedMethods);
-                }
-            }
-        }
-
-        MethodMetadata matchingMethodMetadata = null;
-        for (MethodMetadata methodMetadata : methodMetadataSet) {
-            if (methodMetadata.getMethodName().equals(javaMethod.getName())) {
-                if (matchingMethodMetadata == null) {
-                    matchingMethodMetadata = methodMetadata;
-                } else {
-                    // As we can only compare by name and not by signature,
-                    // we cannot identify overloaded methods at this point.
-                    return null;
-                }
-            }
+    private static MetadataReader readMetadata(JavaClass javaClass) {
+        try {
+            return metadataReaderCache.getMetadataReader(javaClass.getName());
+        } catch (IOException ignored) {
+            return null;
         }
-
-        return matchingMethodMetadata;
     }
 
     public static class EvaluationException extends RuntimeException {
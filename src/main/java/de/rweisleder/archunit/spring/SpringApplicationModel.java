@@ -0,0 +1,237 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import de.rweisleder.archunit.spring.internal.StereotypeIndex;
+import de.rweisleder.archunit.spring.internal.WeakIdentityMap;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWithAnyOf;
+import static de.rweisleder.archunit.spring.framework.SpringAsyncPredicates.consideredAsAsynchronous;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * The Spring-specific facts about an import of classes, like the Spring components and their stereotypes,
+ * the application classes, and the methods that Spring advises via proxies.
+ * The classes are classified only once per import, and the model provides indexed lookups by stereotype,
+ * annotation and package.
+ * <p>
+ * As an example:
+ * <pre>{@code
+ * SpringApplicationModel model = SpringApplicationModel.of(classes);
+ * List<JavaClass> controllers = model.getClasses(Stereotype.CONTROLLER);
+ * }</pre>
+ * The stereotypes of a class are cached, so the {@link de.rweisleder.archunit.spring.framework.SpringComponentPredicates}
+ * and the predefined rules share the classification with the model.
+ *
+ * @author Roland Weisleder
+ */
+public final class SpringApplicationModel {
+
+    /**
+     * The stereotypes of Spring components.
+     */
+    public enum Stereotype {
+
+        /**
+         * A class that is directly or meta-annotated with {@code @Component}, or extends from the Spring Data {@code Repository} interface.
+         */
+        COMPONENT,
+
+        /**
+         * A class that is directly or meta-annotated with {@code @Controller}.
+         */
+        CONTROLLER,
+
+        /**
+         * A class that is directly or meta-annotated with {@code @Service}.
+         */
+        SERVICE,
+
+        /**
+         * A class that is directly or meta-annotated with {@code @Repository}, or extends from the Spring Data {@code Repository} interface.
+         */
+        REPOSITORY,
+
+        /**
+         * A class that is directly or meta-annotated with {@code @Configuration}.
+         */
+        CONFIGURATION,
+
+        /**
+         * A class that is directly or meta-annotated with {@code @SpringBootConfiguration}, like {@code @SpringBootApplication}.
+         */
+        SPRING_BOOT_CONFIGURATION
+    }
+
+    // The classes of an import do not reference the import itself, so a model does not keep its key reachable.
+    private static final WeakIdentityMap<JavaClasses, SpringApplicationModel> models = new WeakIdentityMap<>();
+
+    private static final String[] PROXY_ADVICE_ANNOTATION_TYPE_NAMES = {
+            "org.springframework.cache.annotation.Cacheable",
+            "org.springframework.cache.annotation.CachePut",
+            "org.springframework.cache.annotation.CacheEvict",
+            "org.springframework.retry.annotation.Retryable",
+            "org.springframework.transaction.annotation.Transactional",
+    };
+
+    private final List<JavaClass> classes;
+
+    private final Map<Stereotype, List<JavaClass>> classesByStereotype = new EnumMap<>(Stereotype.class);
+
+    private final Map<String, List<JavaClass>> classesByPackage = new LinkedHashMap<>();
+
+    private final Map<String, List<JavaClass>> classesByAnnotation = new ConcurrentHashMap<>();
+
+    private volatile Set<JavaMethod> methodsWithProxyBasedAdvice;
+
+    private SpringApplicationModel(JavaClasses javaClasses) {
+        List<JavaClass> classes = new ArrayList<>(javaClasses.size());
+        for (Stereotype stereotype : Stereotype.values()) {
+            classesByStereotype.put(stereotype, new ArrayList<>());
+        }
+
+        StereotypeIndex stereotypeIndex = StereotypeIndex.get();
+        for (JavaClass javaClass : javaClasses) {
+            classes.add(javaClass);
+            for (Stereotype stereotype : stereotypeIndex.stereotypes(javaClass)) {
+                classesByStereotype.get(stereotype).add(javaClass);
+            }
+            classesByPackage.computeIfAbsent(javaClass.getPackageName(), packageName -> new ArrayList<>()).add(javaClass);
+        }
+
+        this.classes = unmodifiableList(classes);
+        classesByStereotype.replaceAll((stereotype, stereotypeClasses) -> unmodifiableList(stereotypeClasses));
+        classesByPackage.replaceAll((packageName, packageClasses) -> unmodifiableList(packageClasses));
+    }
+
+    /**
+     * Returns the model of the given classes. The model is created once per import and cached
+     * as long as the given classes are referenced.
+     */
+    public static SpringApplicationModel of(JavaClasses classes) {
+        return models.computeIfAbsent(classes, SpringApplicationModel::new);
+    }
+
+    /**
+     * Returns the classes with the given stereotype.
+     */
+    public List<JavaClass> getClasses(Stereotype stereotype) {
+        return classesByStereotype.get(stereotype);
+    }
+
+    /**
+     * Returns the stereotypes of the given class.
+     */
+    public Set<Stereotype> getStereotypes(JavaClass javaClass) {
+        return StereotypeIndex.get().stereotypes(javaClass);
+    }
+
+    /**
+     * Returns the classes annotated with {@code @SpringBootApplication} or {@code @SpringBootConfiguration}.
+     */
+    public List<JavaClass> getApplicationClasses() {
+        return getClasses(Stereotype.SPRING_BOOT_CONFIGURATION);
+    }
+
+    /**
+     * Returns the names of the packages of the {@link #getApplicationClasses() application classes}.
+     */
+    public Set<String> getApplicationPackageNames() {
+        Set<String> applicationPackageNames = new LinkedHashSet<>();
+        for (JavaClass applicationClass : getApplicationClasses()) {
+            applicationPackageNames.add(applicationClass.getPackageName());
+        }
+        return unmodifiableSet(applicationPackageNames);
+    }
+
+    /**
+     * Returns the classes that are directly or meta-annotated with the given annotation type.
+     *
+     * @see SpringAnnotationPredicates#springAnnotatedWith(String)
+     */
+    public List<JavaClass> getClassesAnnotatedWith(String annotationTypeName) {
+        return classesByAnnotation.computeIfAbsent(annotationTypeName, this::findClassesAnnotatedWith);
+    }
+
+    /**
+     * Returns the classes that reside directly in the given package, excluding sub-packages.
+     */
+    public List<JavaClass> getClassesInPackage(String packageName) {
+        return classesByPackage.getOrDefault(packageName, emptyList());
+    }
+
+    /**
+     * Returns the methods for which Spring applies advice via proxies, i.e. methods that are
+     * {@link de.rweisleder.archunit.spring.framework.SpringAsyncPredicates#consideredAsAsynchronous() considered as asynchronous},
+     * or directly or meta-annotated with {@code @Cacheable}, {@code @CachePut}, {@code @CacheEvict},
+     * {@code @Retryable} or {@code @Transactional}.
+     * Only the methods declared in the classes of the import are considered.
+     */
+    public Set<JavaMethod> getMethodsWithProxyBasedAdvice() {
+        Set<JavaMethod> methods = methodsWithProxyBasedAdvice;
+        if (methods == null) {
+            methods = unmodifiableSet(findMethodsWithProxyBasedAdvice());
+            methodsWithProxyBasedAdvice = methods;
+        }
+        return methods;
+    }
+
+    private List<JavaClass> findClassesAnnotatedWith(String annotationTypeName) {
+        DescribedPredicate<JavaClass> annotatedWith = springAnnotatedWith(annotationTypeName).forSubtype();
+        List<JavaClass> annotatedClasses = new ArrayList<>();
+        for (JavaClass javaClass : classes) {
+            if (annotatedWith.test(javaClass)) {
+                annotatedClasses.add(javaClass);
+            }
+        }
+        return unmodifiableList(annotatedClasses);
+    }
+
+    private Set<JavaMethod> findMethodsWithProxyBasedAdvice() {
+        DescribedPredicate<JavaMethod> advised = consideredAsAsynchronous()
+                .or(springAnnotatedWithAnyOf(PROXY_ADVICE_ANNOTATION_TYPE_NAMES).forSubtype());
+
+        Set<JavaMethod> methods = new LinkedHashSet<>();
+        for (JavaClass javaClass : classes) {
+            for (JavaMethod method : javaClass.getMethods()) {
+                if (advised.test(method)) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+}
@@ -26,10 +26,14 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.conditions.ArchConditions;
+import de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype;
+import de.rweisleder.archunit.spring.internal.StereotypeIndex;
+import de.rweisleder.archunit.spring.internal.WholeApplicationRule;
 
 import java.util.Collection;
 import java.util.List;
 
+import static com.tngtech.archunit.base.DescribedPredicate.describe;
 import static com.tngtech.archunit.lang.ConditionEvent.createMessage;
 import static com.tngtech.archunit.lang.SimpleConditionEvent.satisfied;
 import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
@@ -46,7 +50,8 @@ import static java.util.stream.Collectors.toList;
 public final class SpringBootRules {
 
     private static final DescribedPredicate<CanBeAnnotated> annotatedWithSpringBootApplication = springAnnotatedWith("org.springframework.boot.autoconfigure.SpringBootApplication");
-    private static final DescribedPredicate<CanBeAnnotated> annotatedWithSpringBootConfiguration = springAnnotatedWith("org.springframework.boot.SpringBootConfiguration");
+    private static final DescribedPredicate<JavaClass> annotatedWithSpringBootConfiguration = describe("annotated with @SpringBootConfiguration",
+            javaClass -> StereotypeIndex.get().hasStereotype(javaClass, Stereotype.SPRING_BOOT_CONFIGURATION));
 
     private SpringBootRules() {
     }
@@ -58,10 +63,10 @@ public final class SpringBootRules {
      *
      * @see #beInApplicationPackage()
      */
-    public static final ArchRule AllTypesInApplicationPackage = classes()
+    public static final ArchRule AllTypesInApplicationPackage = WholeApplicationRule.of(classes()
             .should(beInApplicationPackage())
             .as("all types of a Spring Boot application should be located in the same package or a sub-package of the application class")
-            .allowEmptyShould(true);
+            .allowEmptyShould(true));
 
     /**
      * A condition that checks that the given classes are located in the same package or a sub-package of the application class.
@@ -75,7 +80,7 @@ public final class SpringBootRules {
     public static ArchCondition<JavaClass> beInApplicationPackage() {
         return new ArchCondition<JavaClass>("be located in the same package or a sub-package of the application class") {
 
-            private ArchCondition<JavaClass> inApplicationPackageCondition;
+            private volatile ArchCondition<JavaClass> inApplicationPackageCondition;
 
             @Override
             public void init(Collection<JavaClass> javaClasses) {
@@ -110,10 +115,10 @@ public final class SpringBootRules {
      *
      * @see #haveOnlyOneSpringBootConfiguration()
      */
-    public static final ArchRule ApplicationHasOnlyOneSpringBootConfiguration = classes()
+    public static final ArchRule ApplicationHasOnlyOneSpringBootConfiguration = WholeApplicationRule.of(classes()
             .should(haveOnlyOneSpringBootConfiguration())
             .as("application should have only one class annotated with @SpringBootApplication or @SpringBootConfiguration")
-            .allowEmptyShould(true);
+            .allowEmptyShould(true));
 
     /**
      * A condition that checks that at most one class within the given classes is annotated with
@@ -128,7 +133,7 @@ public final class SpringBootRules {
     public static ArchCondition<JavaClass> haveOnlyOneSpringBootConfiguration() {
         return new ArchCondition<JavaClass>("have only one class annotated with @SpringBootApplication or @SpringBootConfiguration") {
 
-            private List<JavaClass> springBootConfigurationClasses;
+            private volatile List<JavaClass> springBootConfigurationClasses;
 
             @Override
             public void init(Collection<JavaClass> javaClasses) {
@@ -24,7 +24,7 @@ import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
 
 import static com.tngtech.archunit.core.domain.JavaMember.Predicates.declaredIn;
-import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWithAnyOf;
 import static de.rweisleder.archunit.spring.framework.SpringProxyPredicates.proxyable;
 import static de.rweisleder.archunit.spring.internal.InternalUtils.isSpringFramework6;
 
@@ -57,12 +57,15 @@ public final class SpringAsyncPredicates {
     }
 
     private static DescribedPredicate<CanBeAnnotated> annotatedWithAsyncOrAsynchronous() {
-        DescribedPredicate<CanBeAnnotated> async = springAnnotatedWith("org.springframework.scheduling.annotation.Async");
-
-        DescribedPredicate<CanBeAnnotated> asynchronous = isSpringFramework6()
-                ? springAnnotatedWith("jakarta.ejb.Asynchronous").or(springAnnotatedWith("jakarta.enterprise.concurrent.Asynchronous"))
-                : springAnnotatedWith("javax.ejb.Asynchronous");
+        return springAnnotatedWithAnyOf(asyncAnnotationTypeNames()).as("annotated with @Async or @Asynchronous");
+    }
 
-        return async.or(asynchronous).as("annotated with @Async or @Asynchronous");
+    /**
+     * Returns the names of the annotation types that mark methods or classes for asynchronous execution.
+     */
+    static String[] asyncAnnotationTypeNames() {
+        return isSpringFramework6()
+                ? new String[]{"org.springframework.scheduling.annotation.Async", "jakarta.ejb.Asynchronous", "jakarta.enterprise.concurrent.Asynchronous"}
+                : new String[]{"org.springframework.scheduling.annotation.Async", "javax.ejb.Asynchronous"};
     }
 }
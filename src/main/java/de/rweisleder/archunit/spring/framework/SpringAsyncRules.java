@@ -19,12 +19,13 @@
  */
 package de.rweisleder.archunit.spring.framework;
 
-import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex.Feature;
+import de.rweisleder.archunit.spring.internal.WholeApplicationRule;
 
 import java.util.Collection;
 import java.util.concurrent.Future;
@@ -38,11 +39,10 @@ import static com.tngtech.archunit.lang.conditions.ArchPredicates.are;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
-import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
 import static de.rweisleder.archunit.spring.framework.SpringAsyncPredicates.consideredAsAsynchronous;
 import static de.rweisleder.archunit.spring.framework.SpringProxyRules.beProxyable;
 import static de.rweisleder.archunit.spring.framework.SpringProxyRules.notBeCalledFromWithinTheSameClass;
-import static de.rweisleder.archunit.spring.internal.InternalUtils.availableMethods;
+import static de.rweisleder.archunit.spring.internal.InternalUtils.availableMethodsAnnotatedOrDeclaredInClassAnnotatedWith;
 
 /**
  * Collection of {@link ArchRule rules} that can be used to check the usage
@@ -67,7 +67,7 @@ public final class SpringAsyncRules {
      * @see SpringAsyncPredicates#consideredAsAsynchronous()
      * @see SpringProxyRules#beProxyable()
      */
-    public static final ArchRule AsyncMethodsAreProxyable = all(availableMethods())
+    public static final ArchRule AsyncMethodsAreProxyable = all(availableMethodsAnnotatedOrDeclaredInClassAnnotatedWith(SpringAsyncPredicates.asyncAnnotationTypeNames()))
             .that(are(consideredAsAsynchronous()))
             .should(beProxyable())
             .allowEmptyShould(true);
@@ -96,7 +96,7 @@ public final class SpringAsyncRules {
      * @see SpringAsyncPredicates#consideredAsAsynchronous()
      * @see SpringProxyRules#notBeCalledFromWithinTheSameClass()
      */
-    public static final ArchRule AsyncMethodsNotCalledFromSameClass = all(availableMethods())
+    public static final ArchRule AsyncMethodsNotCalledFromSameClass = all(availableMethodsAnnotatedOrDeclaredInClassAnnotatedWith(SpringAsyncPredicates.asyncAnnotationTypeNames()))
             .that(are(consideredAsAsynchronous()))
             .should(notBeCalledFromWithinTheSameClass())
             .allowEmptyShould(true);
@@ -109,10 +109,10 @@ public final class SpringAsyncRules {
      * @see SpringAsyncPredicates#consideredAsAsynchronous()
      * @see #haveEnableAsyncPresentIfAsyncMethodsExist()
      */
-    public static final ArchRule EnableAsyncIsPresentIfAsyncMethodsExist = classes()
+    public static final ArchRule EnableAsyncIsPresentIfAsyncMethodsExist = WholeApplicationRule.of(classes()
             .should(haveEnableAsyncPresentIfAsyncMethodsExist())
             .as("application should contain a class annotated with @EnableAsync if any method is annotated with @Async")
-            .allowEmptyShould(true);
+            .allowEmptyShould(true));
 
     /**
      * A condition that checks that the given classes contain a class annotated with {@code @EnableAsync} if any class
@@ -125,29 +125,25 @@ public final class SpringAsyncRules {
     public static ArchCondition<JavaClass> haveEnableAsyncPresentIfAsyncMethodsExist() {
         return new ArchCondition<JavaClass>("have @EnableAsync present if methods annotated with @Async exist") {
 
-            private final DescribedPredicate<JavaMethod> consideredAsAsynchronous = consideredAsAsynchronous();
-            private final DescribedPredicate<JavaClass> annotatedWithEnableAsync = springAnnotatedWith("org.springframework.scheduling.annotation.EnableAsync").forSubtype();
+            private final SpringFeatureIndex springFeatureIndex = SpringFeatureIndex.get();
 
-            private boolean classesHaveMethodConsideredAsAsynchronous = false;
-            private boolean hasClassAnnotatedWithEnableAsync = false;
+            private volatile boolean classesHaveMethodConsideredAsAsynchronous = false;
+            private volatile boolean hasClassAnnotatedWithEnableAsync = false;
 
             @Override
             public void init(Collection<JavaClass> javaClasses) {
-                classesHaveMethodConsideredAsAsynchronous = javaClasses.stream()
-                        .flatMap(javaClass -> javaClass.getAllMethods().stream())
-                        .anyMatch(consideredAsAsynchronous);
+                classesHaveMethodConsideredAsAsynchronous = springFeatureIndex.usesFeature(javaClasses, Feature.ASYNC);
                 hasClassAnnotatedWithEnableAsync = false;
             }
 
             @Override
             public void check(JavaClass javaClass, ConditionEvents events) {
                 if (classesHaveMethodConsideredAsAsynchronous) {
-                    boolean classAnnotatedWithEnableAsync = annotatedWithEnableAsync.test(javaClass);
+                    boolean classAnnotatedWithEnableAsync = springFeatureIndex.enablesFeature(javaClass, Feature.ASYNC);
                     if (classAnnotatedWithEnableAsync) {
-                        events.add(satisfied(javaClass, createMessage(javaClass, "is " + annotatedWithEnableAsync.getDescription())));
+                        events.add(satisfied(javaClass, createMessage(javaClass, "is annotated with @EnableAsync")));
+                        hasClassAnnotatedWithEnableAsync = true;
                     }
-
-                    hasClassAnnotatedWithEnableAsync |= classAnnotatedWithEnableAsync;
                 }
             }
 
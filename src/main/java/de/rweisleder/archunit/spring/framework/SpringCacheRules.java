@@ -19,12 +19,13 @@
  */
 package de.rweisleder.archunit.spring.framework;
 
-import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex.Feature;
+import de.rweisleder.archunit.spring.internal.WholeApplicationRule;
 
 import java.util.Collection;
 
@@ -37,7 +38,7 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
 import static de.rweisleder.archunit.spring.framework.SpringProxyRules.beProxyable;
 import static de.rweisleder.archunit.spring.framework.SpringProxyRules.notBeCalledFromWithinTheSameClass;
-import static de.rweisleder.archunit.spring.internal.InternalUtils.availableMethods;
+import static de.rweisleder.archunit.spring.internal.InternalUtils.availableMethodsAnnotatedWith;
 
 /**
  * Collection of {@link ArchRule rules} that can be used to check the usage of Spring's generic cache abstraction.
@@ -59,7 +60,7 @@ public final class SpringCacheRules {
      *
      * @see SpringProxyRules#beProxyable()
      */
-    public static final ArchRule CacheableMethodsAreProxyable = all(availableMethods())
+    public static final ArchRule CacheableMethodsAreProxyable = all(availableMethodsAnnotatedWith("org.springframework.cache.annotation.Cacheable"))
             .that(are(springAnnotatedWith("org.springframework.cache.annotation.Cacheable")))
             .should(beProxyable())
             .allowEmptyShould(true);
@@ -88,7 +89,7 @@ public final class SpringCacheRules {
      *
      * @see SpringProxyRules#notBeCalledFromWithinTheSameClass()
      */
-    public static final ArchRule CacheableMethodsNotCalledFromSameClass = all(availableMethods())
+    public static final ArchRule CacheableMethodsNotCalledFromSameClass = all(availableMethodsAnnotatedWith("org.springframework.cache.annotation.Cacheable"))
             .that(are(springAnnotatedWith("org.springframework.cache.annotation.Cacheable")))
             .should(notBeCalledFromWithinTheSameClass())
             .allowEmptyShould(true);
@@ -100,10 +101,10 @@ public final class SpringCacheRules {
      *
      * @see #haveEnableCachingPresentIfCacheableMethodsExist()
      */
-    public static final ArchRule EnableCachingIsPresentIfCacheableMethodsExist = classes()
+    public static final ArchRule EnableCachingIsPresentIfCacheableMethodsExist = WholeApplicationRule.of(classes()
             .should(haveEnableCachingPresentIfCacheableMethodsExist())
             .as("application should contain a class annotated with @EnableCaching if any method is annotated with @Cacheable")
-            .allowEmptyShould(true);
+            .allowEmptyShould(true));
 
     /**
      * A condition that checks that the given classes contain a class annotated with {@code @EnableCaching} if any class
@@ -115,29 +116,25 @@ public final class SpringCacheRules {
     public static ArchCondition<JavaClass> haveEnableCachingPresentIfCacheableMethodsExist() {
         return new ArchCondition<JavaClass>("have @EnableCaching present if methods annotated with @Cacheable exist") {
 
-            private final DescribedPredicate<JavaMethod> annotatedWithCacheable = springAnnotatedWith("org.springframework.cache.annotation.Cacheable").forSubtype();
-            private final DescribedPredicate<JavaClass> annotatedWithEnableCaching = springAnnotatedWith("org.springframework.cache.annotation.EnableCaching").forSubtype();
+            private final SpringFeatureIndex springFeatureIndex = SpringFeatureIndex.get();
 
-            private boolean classesHaveMethodAnnotatedWithCacheable = false;
-            private boolean hasClassAnnotatedWithEnableCaching = false;
+            private volatile boolean classesHaveMethodAnnotatedWithCacheable = false;
+            private volatile boolean hasClassAnnotatedWithEnableCaching = false;
 
             @Override
             public void init(Collection<JavaClass> javaClasses) {
-                classesHaveMethodAnnotatedWithCacheable = javaClasses.stream()
-                        .flatMap(javaClass -> javaClass.getAllMethods().stream())
-                        .anyMatch(annotatedWithCacheable);
+                classesHaveMethodAnnotatedWithCacheable = springFeatureIndex.usesFeature(javaClasses, Feature.CACHING);
                 hasClassAnnotatedWithEnableCaching = false;
             }
 
             @Override
             public void check(JavaClass javaClass, ConditionEvents events) {
                 if (classesHaveMethodAnnotatedWithCacheable) {
-                    boolean classAnnotatedWithEnableCaching = annotatedWithEnableCaching.test(javaClass);
+                    boolean classAnnotatedWithEnableCaching = springFeatureIndex.enablesFeature(javaClass, Feature.CACHING);
                     if (classAnnotatedWithEnableCaching) {
-                        events.add(satisfied(javaClass, createMessage(javaClass, "is " + annotatedWithEnableCaching.getDescription())));
+                        events.add(satisfied(javaClass, createMessage(javaClass, "is annotated with @EnableCaching")));
+                        hasClassAnnotatedWithEnableCaching = true;
                     }
-
-                    hasClassAnnotatedWithEnableCaching |= classAnnotatedWithEnableCaching;
                 }
             }
 
@@ -21,10 +21,12 @@ package de.rweisleder.archunit.spring.framework;
 
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
+import de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype;
+import de.rweisleder.archunit.spring.internal.StereotypeIndex;
 
-import static com.tngtech.archunit.base.DescribedPredicate.not;
-import static com.tngtech.archunit.core.domain.JavaClass.Predicates.assignableTo;
-import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+import java.util.StringJoiner;
+
+import static com.tngtech.archunit.base.DescribedPredicate.describe;
 
 /**
  * Collection of {@link DescribedPredicate predicates} that can be used to match the different Spring stereotypes.
@@ -43,9 +45,7 @@ public final class SpringComponentPredicates {
      * or extend from the Spring Data {@code Repository} interface.
      */
     public static DescribedPredicate<JavaClass> springComponent() {
-        DescribedPredicate<JavaClass> hasComponentAnnotation = springAnnotatedWith("org.springframework.stereotype.Component").forSubtype();
-        DescribedPredicate<JavaClass> isSpringDataRepository = springDataRepository();
-        return hasComponentAnnotation.or(isSpringDataRepository).as("Spring component");
+        return hasStereotype(Stereotype.COMPONENT, "Spring component");
     }
 
     /**
@@ -53,8 +53,7 @@ public final class SpringComponentPredicates {
      * These are classes that are directly or meta-annotated with {@code @Controller} or {@code @RestController}.
      */
     public static DescribedPredicate<JavaClass> springController() {
-        return springAnnotatedWith("org.springframework.stereotype.Controller")
-                .as("Spring controller").forSubtype();
+        return hasStereotype(Stereotype.CONTROLLER, "Spring controller");
     }
 
     /**
@@ -62,8 +61,7 @@ public final class SpringComponentPredicates {
      * These are classes that are directly or meta-annotated with {@code @Service}.
      */
     public static DescribedPredicate<JavaClass> springService() {
-        return springAnnotatedWith("org.springframework.stereotype.Service")
-                .as("Spring service").forSubtype();
+        return hasStereotype(Stereotype.SERVICE, "Spring service");
     }
 
     /**
@@ -72,28 +70,59 @@ public final class SpringComponentPredicates {
      * or extend from the Spring Data {@code Repository} interface.
      */
     public static DescribedPredicate<JavaClass> springRepository() {
-        DescribedPredicate<JavaClass> hasRepositoryAnnotation = springAnnotatedWith("org.springframework.stereotype.Repository").forSubtype();
-        DescribedPredicate<JavaClass> isSpringDataRepository = springDataRepository();
+        return hasStereotype(Stereotype.REPOSITORY, "Spring repository");
+    }
 
-        return hasRepositoryAnnotation.or(isSpringDataRepository)
-                .as("Spring repository");
+    /**
+     * Returns a predicate that matches classes that are Spring configuration classes.
+     * These are classes that are directly or meta-annotated with {@code @Configuration}.
+     */
+    public static DescribedPredicate<JavaClass> springConfiguration() {
+        return hasStereotype(Stereotype.CONFIGURATION, "Spring configuration");
     }
 
     /**
-     * Returns a predicate that matches classes that are Spring repository classes
-     * by extending from the Spring Data {@code Repository} interface.
+     * Returns a predicate that matches classes with the given stereotype.
+     * The stereotypes of a class are determined all at once and cached, see {@link StereotypeIndex}.
      */
-    private static DescribedPredicate<JavaClass> springDataRepository() {
-        return assignableTo("org.springframework.data.repository.Repository")
-                .and(not(springAnnotatedWith("org.springframework.data.repository.NoRepositoryBean").forSubtype()));
+    private static DescribedPredicate<JavaClass> hasStereotype(Stereotype stereotype, String description) {
+        StereotypeIndex stereotypeIndex = StereotypeIndex.get();
+        int stereotypeMask = StereotypeIndex.bit(stereotype);
+        return describe(description, javaClass -> stereotypeIndex.hasAnyStereotype(javaClass, stereotypeMask));
     }
 
     /**
-     * Returns a predicate that matches classes that are Spring configuration classes.
-     * These are classes that are directly or meta-annotated with {@code @Configuration}.
+     * Returns a predicate that matches classes with any of the given stereotypes.
+     * This is equivalent to combining the predicates of the stereotypes with {@link DescribedPredicate#or(DescribedPredicate) or},
+     * including the description, but tests all stereotypes of a class at once.
      */
-    public static DescribedPredicate<JavaClass> springConfiguration() {
-        return springAnnotatedWith("org.springframework.context.annotation.Configuration")
-                .as("Spring configuration").forSubtype();
+    static DescribedPredicate<JavaClass> hasAnyStereotype(Stereotype... stereotypes) {
+        StereotypeIndex stereotypeIndex = StereotypeIndex.get();
+        int stereotypeMask = 0;
+        StringJoiner description = new StringJoiner(" or ");
+        for (Stereotype stereotype : stereotypes) {
+            stereotypeMask |= StereotypeIndex.bit(stereotype);
+            description.add(stereotypePredicate(stereotype).getDescription());
+        }
+
+        int mask = stereotypeMask;
+        return describe(description.toString(), javaClass -> stereotypeIndex.hasAnyStereotype(javaClass, mask));
+    }
+
+    private static DescribedPredicate<JavaClass> stereotypePredicate(Stereotype stereotype) {
+        switch (stereotype) {
+            case COMPONENT:
+                return springComponent();
+            case CONTROLLER:
+                return springController();
+            case SERVICE:
+                return springService();
+            case REPOSITORY:
+                return springRepository();
+            case CONFIGURATION:
+                return springConfiguration();
+            default:
+                throw new IllegalArgumentException("No predicate for stereotype " + stereotype);
+        }
     }
 }
@@ -25,7 +25,10 @@ import static com.tngtech.archunit.lang.conditions.ArchConditions.dependOnClasse
 import static com.tngtech.archunit.lang.conditions.ArchConditions.not;
 import static com.tngtech.archunit.lang.conditions.ArchPredicates.are;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
-import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.springConfiguration;
+import static de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype.CONFIGURATION;
+import static de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype.CONTROLLER;
+import static de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype.SERVICE;
+import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.hasAnyStereotype;
 import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.springController;
 import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.springRepository;
 import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.springService;
@@ -51,7 +54,7 @@ public final class SpringComponentRules {
     public static final ArchRule DependenciesOfControllers = classes()
             .that(are(springController()))
             .should(not(dependOnClassesThat(
-                    are(springController().or(springConfiguration()))
+                    are(hasAnyStereotype(CONTROLLER, CONFIGURATION))
             )))
             .as("Spring controller should only depend on other Spring components that are services or repositories")
             .allowEmptyShould(true);
@@ -66,7 +69,7 @@ public final class SpringComponentRules {
     public static final ArchRule DependenciesOfServices = classes()
             .that(are(springService()))
             .should(not(dependOnClassesThat(
-                    are(springController().or(springConfiguration()))
+                    are(hasAnyStereotype(CONTROLLER, CONFIGURATION))
             )))
             .as("Spring services should only depend on other Spring components that are services or repositories")
             .allowEmptyShould(true);
@@ -81,7 +84,7 @@ public final class SpringComponentRules {
     public static final ArchRule DependenciesOfRepositories = classes()
             .that(are(springRepository()))
             .should(not(dependOnClassesThat(
-                    are(springController().or(springService()).or(springConfiguration()))
+                    are(hasAnyStereotype(CONTROLLER, SERVICE, CONFIGURATION))
             )))
             .as("Spring repositories should only depend on other Spring components that are repositories")
             .allowEmptyShould(true);
@@ -40,7 +40,7 @@ public final class SpringControllerPredicates {
      * Returns a predicate that matches classes annotated with {@code @Controller(<name>)}.
      */
     public static DescribedPredicate<JavaClass> intentionallyAnnotatedWithControllerWithName() {
-        return springAnnotatedWith(Controller.class, describe("@Controller(<name>)", controller -> !controller.value().isEmpty()))
+        return springAnnotatedWith(Controller.class, "value", describe("<name>", value -> !"".equals(value)))
                 .as("intentionally annotated with @Controller(<name>) or @RestController(<name>)")
                 .forSubtype();
     }
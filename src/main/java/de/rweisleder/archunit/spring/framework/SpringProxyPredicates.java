@@ -20,11 +20,15 @@
 package de.rweisleder.archunit.spring.framework;
 
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaMethod;
-import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ConditionEvents;
+import de.rweisleder.archunit.spring.framework.SpringProxyRules.ClassHierarchy;
 
-import static de.rweisleder.archunit.spring.framework.SpringProxyRules.beProxyable;
+import java.util.Map;
+
+import static de.rweisleder.archunit.spring.framework.SpringProxyRules.isProxyable;
+import static de.rweisleder.archunit.spring.framework.SpringProxyRules.newClassHierarchyCache;
+import static de.rweisleder.archunit.spring.internal.InternalUtils.isSpringFramework6;
 
 /**
  * Collection of {@link DescribedPredicate predicates} that can be used to check the usage of Spring's proxy mechanism.
@@ -49,13 +53,14 @@ public final class SpringProxyPredicates {
     public static DescribedPredicate<JavaMethod> proxyable() {
         return new DescribedPredicate<JavaMethod>("proxyable") {
 
-            private final ArchCondition<JavaMethod> isProxyable = beProxyable();
+            private final boolean isSpringFramework6 = isSpringFramework6();
+
+            private final Map<JavaClass, ClassHierarchy> classHierarchies = newClassHierarchyCache();
 
             @Override
             public boolean test(JavaMethod method) {
-                ConditionEvents events = ConditionEvents.Factory.create();
-                isProxyable.check(method, events);
-                return !events.containViolation();
+                ClassHierarchy classHierarchy = classHierarchies.computeIfAbsent(method.getOwner(), ClassHierarchy::new);
+                return isProxyable(method, classHierarchy, isSpringFramework6);
             }
         };
     }
@@ -19,13 +19,28 @@
  */
 package de.rweisleder.archunit.spring.framework;
 
+import com.tngtech.archunit.core.domain.AccessTarget.CodeUnitAccessTarget;
+import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaCodeUnitAccess;
 import com.tngtech.archunit.core.domain.JavaMethod;
-import com.tngtech.archunit.core.domain.JavaMethodCall;
+import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static com.tngtech.archunit.lang.ConditionEvent.createMessage;
 import static com.tngtech.archunit.lang.SimpleConditionEvent.satisfied;
 import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
@@ -36,6 +51,8 @@ import static com.tngtech.archunit.lang.conditions.ArchConditions.notBeFinal;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.notBePrivate;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.notBeStatic;
 import static de.rweisleder.archunit.spring.internal.InternalUtils.isSpringFramework6;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.synchronizedMap;
 
 /**
  * Collection of {@link ArchRule rules} that can be used to check the usage of Spring's proxy mechanism.
@@ -54,6 +71,9 @@ public final class SpringProxyRules {
      * <p>
      * If Spring can not create a proxy for a method, this can lead to an exception when starting the context
      * or to unexpected behavior when calling the method.
+     * <p>
+     * Within a single rule evaluation, the class hierarchy of each class declaring the methods is analyzed only once.
+     * The subclasses are only checked for each method if the class hierarchy contains a final class.
      *
      * @see SpringProxyPredicates#proxyable()
      */
@@ -85,13 +105,24 @@ public final class SpringProxyRules {
 
             private final ArchCondition<JavaMethod> nonPrivateMethod = notBePrivate();
 
+            // The class hierarchies reference the imported classes, so they are only kept until the evaluation is finished.
+            private final Map<JavaClass, ClassHierarchy> classHierarchies = new ConcurrentHashMap<>();
+
+            @Override
+            public void init(Collection<JavaMethod> allObjectsToTest) {
+                classHierarchies.clear();
+            }
+
             @Override
             public void check(JavaMethod method, ConditionEvents events) {
                 JavaClass owner = method.getOwner();
-                nonFinalClass.check(owner, events);
+                ClassHierarchy classHierarchy = classHierarchies.computeIfAbsent(owner, ClassHierarchy::new);
 
-                for (JavaClass subclass : owner.getAllSubclasses()) {
-                    nonFinalClass.check(subclass, events);
+                nonFinalClass.check(owner, events);
+                if (classHierarchy.containsFinalClass) {
+                    for (JavaClass subclass : owner.getAllSubclasses()) {
+                        nonFinalClass.check(subclass, events);
+                    }
                 }
 
                 notDeclaredInInterface.check(method, events);
@@ -100,7 +131,7 @@ public final class SpringProxyRules {
                 nonStaticMethod.check(method, events);
 
                 if (isSpringFramework6) {
-                    if (hasSubclassInDifferentPackage(owner)) {
+                    if (classHierarchy.hasSubclassInDifferentPackage) {
                         publicOrProtectedMethod.check(method, events);
                     } else {
                         nonPrivateMethod.check(method, events);
@@ -110,13 +141,9 @@ public final class SpringProxyRules {
                 }
             }
 
-            private boolean hasSubclassInDifferentPackage(JavaClass javaClass) {
-                for (JavaClass subclass : javaClass.getAllSubclasses()) {
-                    if (!subclass.getPackage().equals(javaClass.getPackage())) {
-                        return true;
-                    }
-                }
-                return false;
+            @Override
+            public void finish(ConditionEvents events) {
+                classHierarchies.clear();
             }
         };
     }
@@ -125,19 +152,191 @@ public final class SpringProxyRules {
      * A condition that checks that the given methods are not called from within the same class.
      * Such internal calls bypass Spring's proxy mechanism, causing the intended caching behavior to be ignored.
      * <p>
+     * Besides direct calls, this also detects method references like {@code this::method},
+     * calls from anonymous, local and inner classes on the enclosing instance,
+     * and calls from a superclass that are dispatched to the given method, e.g. in a template method.
+     * The calls within the class hierarchy of each class are indexed once per rule evaluation.
+     * <p>
      * This condition should only be used for JDK proxy-based advices.
      */
     public static ArchCondition<JavaMethod> notBeCalledFromWithinTheSameClass() {
         return new ArchCondition<JavaMethod>("not be called from within the same class") {
+
+            // The indexes reference the imported classes, so they are only kept until the evaluation is finished.
+            private final Map<JavaClass, SelfInvocations> selfInvocations = new ConcurrentHashMap<>();
+
+            @Override
+            public void init(Collection<JavaMethod> allObjectsToTest) {
+                selfInvocations.clear();
+            }
+
             @Override
             public void check(JavaMethod method, ConditionEvents events) {
-                for (JavaMethodCall methodCall : method.getCallsOfSelf()) {
-                    boolean calledFromWithinSameClass = methodCall.getOriginOwner().equals(methodCall.getTargetOwner());
-                    if (calledFromWithinSameClass) {
-                        events.add(violated(method, methodCall.getDescription()));
-                    }
+                JavaClass owner = method.getOwner();
+                Set<JavaCodeUnitAccess<?>> accesses = new LinkedHashSet<>(selfInvocations(owner).of(method));
+                for (JavaClass subclass : owner.getAllSubclasses()) {
+                    accesses.addAll(selfInvocations(subclass).of(method));
+                }
+
+                for (JavaCodeUnitAccess<?> access : accesses) {
+                    events.add(violated(method, access.getDescription()));
                 }
             }
+
+            private SelfInvocations selfInvocations(JavaClass javaClass) {
+                return selfInvocations.computeIfAbsent(javaClass, SelfInvocations::new);
+            }
+
+            @Override
+            public void finish(ConditionEvents events) {
+                selfInvocations.clear();
+            }
         };
     }
+
+    /**
+     * Returns whether Spring can create a proxy for the given method.
+     * This is equivalent to {@link #beProxyable()}, but does not create any events.
+     */
+    static boolean isProxyable(JavaMethod method, ClassHierarchy classHierarchy, boolean isSpringFramework6) {
+        if (method.getOwner().isInterface() || classHierarchy.containsFinalClass) {
+            return false;
+        }
+
+        Set<JavaModifier> modifiers = method.getModifiers();
+        if (modifiers.contains(JavaModifier.FINAL) || modifiers.contains(JavaModifier.STATIC)) {
+            return false;
+        }
+
+        if (isSpringFramework6) {
+            if (classHierarchy.hasSubclassInDifferentPackage) {
+                return modifiers.contains(JavaModifier.PUBLIC) || modifiers.contains(JavaModifier.PROTECTED);
+            } else {
+                return !modifiers.contains(JavaModifier.PRIVATE);
+            }
+        } else {
+            return modifiers.contains(JavaModifier.PUBLIC);
+        }
+    }
+
+    /**
+     * Creates a cache for the class hierarchies of the classes declaring the checked methods.
+     * The keys are weakly referenced, so that the classes of an import can be garbage collected.
+     */
+    static Map<JavaClass, ClassHierarchy> newClassHierarchyCache() {
+        return synchronizedMap(new WeakHashMap<>());
+    }
+
+    /**
+     * The properties of a class and all its subclasses that decide whether Spring can create proxies for its methods.
+     */
+    static final class ClassHierarchy {
+
+        private final boolean containsFinalClass;
+
+        private final boolean hasSubclassInDifferentPackage;
+
+        ClassHierarchy(JavaClass javaClass) {
+            boolean containsFinalClass = javaClass.getModifiers().contains(JavaModifier.FINAL);
+            boolean hasSubclassInDifferentPackage = false;
+            for (JavaClass subclass : javaClass.getAllSubclasses()) {
+                containsFinalClass |= subclass.getModifiers().contains(JavaModifier.FINAL);
+                hasSubclassInDifferentPackage |= !subclass.getPackage().equals(javaClass.getPackage());
+            }
+            this.containsFinalClass = containsFinalClass;
+            this.hasSubclassInDifferentPackage = hasSubclassInDifferentPackage;
+        }
+    }
+
+    /**
+     * The calls and method references from the code of a class that are invoked on the same instance,
+     * indexed by the method they are dispatched to at runtime.
+     * The code of a class includes the code of its superclasses, and the code of anonymous, local and inner classes
+     * that can access the enclosing instance.
+     */
+    static final class SelfInvocations {
+
+        private final Map<JavaMethod, Set<JavaCodeUnitAccess<?>>> accessesByMethod = new HashMap<>();
+
+        SelfInvocations(JavaClass javaClass) {
+            List<JavaClass> typeHierarchy = new ArrayList<>();
+            typeHierarchy.add(javaClass);
+            typeHierarchy.addAll(javaClass.getAllRawSuperclasses());
+
+            Map<String, JavaMethod> dispatchedMethods = new HashMap<>();
+            for (JavaClass type : typeHierarchy) {
+                for (JavaMethod method : type.getMethods()) {
+                    if (!method.getModifiers().contains(JavaModifier.PRIVATE) || type.equals(javaClass)) {
+                        dispatchedMethods.putIfAbsent(signature(method.getName(), method.getRawParameterTypes()), method);
+                    }
+                }
+            }
+
+            for (JavaClass type : typeHierarchy) {
+                for (JavaClass codeClass : classesSharingInstanceOf(type)) {
+                    for (JavaCodeUnit codeUnit : codeClass.getCodeUnits()) {
+                        addAccesses(codeUnit.getMethodCallsFromSelf(), type, dispatchedMethods);
+                        addAccesses(codeUnit.getMethodReferencesFromSelf(), type, dispatchedMethods);
+                    }
+                }
+            }
+        }
+
+        Set<JavaCodeUnitAccess<?>> of(JavaMethod method) {
+            return accessesByMethod.getOrDefault(method, emptySet());
+        }
+
+        /**
+         * Adds the given accesses from the code of the given type, if they target the instance of this type.
+         * Only accesses whose target owner is exactly this type are considered, as the compiler uses the declaring type
+         * for accesses on {@code this}, but usually a different type for accesses on other instances.
+         */
+        private void addAccesses(Set<? extends JavaCodeUnitAccess<?>> accesses, JavaClass type,
+                                 Map<String, JavaMethod> dispatchedMethods) {
+            for (JavaCodeUnitAccess<?> access : accesses) {
+                if (!access.getTargetOwner().equals(type)) {
+                    continue;
+                }
+
+                CodeUnitAccessTarget target = access.getTarget();
+                JavaMethod dispatchedMethod = dispatchedMethods.get(signature(target.getName(), target.getRawParameterTypes()));
+                if (dispatchedMethod != null) {
+                    accessesByMethod.computeIfAbsent(dispatchedMethod, __ -> new LinkedHashSet<>()).add(access);
+                }
+            }
+        }
+
+        /**
+         * Returns the given class and all classes nested in it whose code can access the instance of the given class,
+         * i.e. anonymous, local and inner classes that are not declared in a static context.
+         */
+        private static Set<JavaClass> classesSharingInstanceOf(JavaClass javaClass) {
+            Set<JavaClass> classes = new LinkedHashSet<>();
+            classes.add(javaClass);
+            for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
+                JavaClass originClass = dependency.getOriginClass();
+                if (isEnclosedInstanceClass(originClass, javaClass) && !classes.contains(originClass)) {
+                    classes.addAll(classesSharingInstanceOf(originClass));
+                }
+            }
+            return classes;
+        }
+
+        private static boolean isEnclosedInstanceClass(JavaClass javaClass, JavaClass enclosingClass) {
+            if (!javaClass.isInnerClass() || !javaClass.getEnclosingClass().filter(enclosingClass::equals).isPresent()) {
+                return false;
+            }
+
+            Optional<JavaCodeUnit> enclosingCodeUnit = javaClass.getEnclosingCodeUnit();
+            return !enclosingCodeUnit.isPresent() || !enclosingCodeUnit.get().getModifiers().contains(JavaModifier.STATIC);
+        }
+
+        private static String signature(String methodName, List<JavaClass> rawParameterTypes) {
+            StringBuilder signature = new StringBuilder(methodName).append('(');
+            for (JavaClass parameterType : rawParameterTypes) {
+                signature.append(parameterType.getName()).append(',');
+            }
+            return signature.append(')').toString();
+        }
+    }
 }
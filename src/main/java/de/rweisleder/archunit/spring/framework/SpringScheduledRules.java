@@ -19,12 +19,13 @@
  */
 package de.rweisleder.archunit.spring.framework;
 
-import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex.Feature;
+import de.rweisleder.archunit.spring.internal.WholeApplicationRule;
 
 import java.util.Collection;
 
@@ -32,7 +33,6 @@ import static com.tngtech.archunit.lang.ConditionEvent.createMessage;
 import static com.tngtech.archunit.lang.SimpleConditionEvent.satisfied;
 import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
-import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
 
 /**
  * Collection of {@link ArchRule rules} that can be used to check the usage
@@ -52,10 +52,10 @@ public final class SpringScheduledRules {
      *
      * @see #haveEnableSchedulingPresentIfScheduledMethodsExist()
      */
-    public static final ArchRule EnableSchedulingIsPresentIfScheduledMethodsExist = classes()
+    public static final ArchRule EnableSchedulingIsPresentIfScheduledMethodsExist = WholeApplicationRule.of(classes()
             .should(haveEnableSchedulingPresentIfScheduledMethodsExist())
             .as("application should contain a class annotated with @EnableScheduling if any method is annotated with @Scheduled")
-            .allowEmptyShould(true);
+            .allowEmptyShould(true));
 
     /**
      * A condition that checks that the given classes contain a class annotated with {@code @EnableScheduling} if any class
@@ -67,29 +67,25 @@ public final class SpringScheduledRules {
     public static ArchCondition<JavaClass> haveEnableSchedulingPresentIfScheduledMethodsExist() {
         return new ArchCondition<JavaClass>("have @EnableScheduling present if methods annotated with @Scheduled exist") {
 
-            private final DescribedPredicate<JavaMethod> annotatedWithScheduled = springAnnotatedWith("org.springframework.scheduling.annotation.Scheduled").forSubtype();
-            private final DescribedPredicate<JavaClass> annotatedWithEnableScheduling = springAnnotatedWith("org.springframework.scheduling.annotation.EnableScheduling").forSubtype();
+            private final SpringFeatureIndex springFeatureIndex = SpringFeatureIndex.get();
 
-            private boolean classesHaveMethodAnnotatedWithScheduled = false;
-            private boolean hasClassAnnotatedWithEnableScheduling = false;
+            private volatile boolean classesHaveMethodAnnotatedWithScheduled = false;
+            private volatile boolean hasClassAnnotatedWithEnableScheduling = false;
 
             @Override
             public void init(Collection<JavaClass> javaClasses) {
-                classesHaveMethodAnnotatedWithScheduled = javaClasses.stream()
-                        .flatMap(javaClass -> javaClass.getAllMethods().stream())
-                        .anyMatch(annotatedWithScheduled);
+                classesHaveMethodAnnotatedWithScheduled = springFeatureIndex.usesFeature(javaClasses, Feature.SCHEDULING);
                 hasClassAnnotatedWithEnableScheduling = false;
             }
 
             @Override
             public void check(JavaClass javaClass, ConditionEvents events) {
                 if (classesHaveMethodAnnotatedWithScheduled) {
-                    boolean classAnnotatedWithEnableScheduling = annotatedWithEnableScheduling.test(javaClass);
+                    boolean classAnnotatedWithEnableScheduling = springFeatureIndex.enablesFeature(javaClass, Feature.SCHEDULING);
                     if (classAnnotatedWithEnableScheduling) {
-                        events.add(satisfied(javaClass, createMessage(javaClass, "is " + annotatedWithEnableScheduling.getDescription())));
+                        events.add(satisfied(javaClass, createMessage(javaClass, "is annotated with @EnableScheduling")));
+                        hasClassAnnotatedWithEnableScheduling = true;
                     }
-
-                    hasClassAnnotatedWithEnableScheduling |= classAnnotatedWithEnableScheduling;
                 }
             }
 
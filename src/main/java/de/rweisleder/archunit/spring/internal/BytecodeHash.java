@@ -0,0 +1,144 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.Source;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * For internal use only.
+ * <p>
+ * The MD5 hash of the bytecode of a class, to detect whether a class has changed between test runs.
+ */
+public final class BytecodeHash {
+
+    private static final int LENGTH = 16;
+
+    private final byte[] bytes;
+
+    private BytecodeHash(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the hash of the bytecode of the given class, using the MD5 sum that ArchUnit has calculated during
+     * the import if it is enabled, or reading the bytecode from the source of the class otherwise.
+     */
+    public static Optional<BytecodeHash> of(JavaClass javaClass) {
+        Optional<Source> source = javaClass.getSource();
+        if (!source.isPresent()) {
+            return of(javaClass.getName());
+        }
+
+        byte[] md5sum = source.get().getMd5sum().asBytes();
+        if (md5sum.length == LENGTH) {
+            return Optional.of(new BytecodeHash(md5sum));
+        }
+
+        URI uri = source.get().getUri();
+        try (InputStream input = uri.toURL().openStream()) {
+            return Optional.of(hash(input));
+        } catch (IOException | IllegalArgumentException e) {
+            return of(javaClass.getName());
+        }
+    }
+
+    /**
+     * Returns the hash of the bytecode of the class with the given name, as found by the default class loader.
+     */
+    public static Optional<BytecodeHash> of(String className) {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        String resourceName = ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+        try (InputStream input = classLoader != null ? classLoader.getResourceAsStream(resourceName) : ClassLoader.getSystemResourceAsStream(resourceName)) {
+            return input != null ? Optional.of(hash(input)) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    static BytecodeHash fromBytes(byte[] bytes) {
+        if (bytes.length != LENGTH) {
+            throw new IllegalArgumentException("Expected " + LENGTH + " bytes, but got " + bytes.length);
+        }
+        return new BytecodeHash(bytes.clone());
+    }
+
+    /**
+     * Parses a hash in the format of {@link #toString()}.
+     */
+    public static BytecodeHash parse(String hex) {
+        if (hex.length() != LENGTH * 2) {
+            throw new IllegalArgumentException("Invalid hash " + hex);
+        }
+        byte[] bytes = new byte[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return new BytecodeHash(bytes);
+    }
+
+    private static BytecodeHash hash(InputStream input) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return new BytecodeHash(digest.digest());
+    }
+
+    byte[] getBytes() {
+        return bytes.clone();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BytecodeHash && Arrays.equals(bytes, ((BytecodeHash) obj).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder hex = new StringBuilder(LENGTH * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
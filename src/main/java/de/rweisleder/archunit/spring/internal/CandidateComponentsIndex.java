@@ -0,0 +1,133 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.Source;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * For internal use only.
+ * <p>
+ * Reads the candidate component indexes that are generated by {@code spring-context-indexer} into
+ * {@value #COMPONENTS_RESOURCE_LOCATION}. Each index lists the component candidates of the classpath root it is
+ * contained in, together with their stereotypes, i.e. the {@code @Indexed} annotations and interfaces
+ * like {@code @Component} or the Spring Data {@code Repository}.
+ * <p>
+ * An index only applies to the classes of its own classpath root, as other roots may have been compiled without
+ * the indexer. The indexes are read once per classpath root and cached until {@link #clear() cleared}.
+ */
+public final class CandidateComponentsIndex {
+
+    static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/spring.components";
+
+    private static final CandidateComponentsIndex INSTANCE = new CandidateComponentsIndex();
+
+    private static final Map<String, Set<String>> NO_INDEX = Collections.emptyMap();
+
+    private final Map<String, Map<String, Set<String>>> indexesByRoot = new ConcurrentHashMap<>();
+
+    private CandidateComponentsIndex() {
+    }
+
+    public static CandidateComponentsIndex get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the stereotypes of the given class according to the index of its classpath root,
+     * an empty set if the class is not a component candidate,
+     * or {@code null} if there is no index for the class.
+     */
+    public Set<String> stereotypes(JavaClass javaClass) {
+        String root = classpathRoot(javaClass);
+        if (root == null) {
+            return null;
+        }
+
+        Map<String, Set<String>> index = indexesByRoot.computeIfAbsent(root, CandidateComponentsIndex::readIndex);
+        if (index == NO_INDEX) {
+            return null;
+        }
+
+        Set<String> stereotypes = index.get(javaClass.getName());
+        return stereotypes != null ? stereotypes : emptySet();
+    }
+
+    public void clear() {
+        indexesByRoot.clear();
+    }
+
+    /**
+     * Returns the URI of the directory or JAR file root the given class was imported from,
+     * or {@code null} if it is unknown.
+     */
+    static String classpathRoot(JavaClass javaClass) {
+        Optional<Source> source = javaClass.getSource();
+        if (!source.isPresent()) {
+            return null;
+        }
+
+        String uri = source.get().getUri().toString();
+        String classFile = ClassUtils.convertClassNameToResourcePath(javaClass.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+        if (!uri.endsWith(classFile)) {
+            return null;
+        }
+        return uri.substring(0, uri.length() - classFile.length());
+    }
+
+    private static Map<String, Set<String>> readIndex(String root) {
+        Properties properties = new Properties();
+        try (InputStream input = URI.create(root + COMPONENTS_RESOURCE_LOCATION).toURL().openStream()) {
+            properties.load(input);
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return NO_INDEX;
+        } catch (IllegalArgumentException e) {
+            // The URI of the root cannot be opened as a URL, so there is no index that can be read.
+            return NO_INDEX;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + root + COMPONENTS_RESOURCE_LOCATION, e);
+        }
+
+        Map<String, Set<String>> index = new HashMap<>();
+        for (String className : properties.stringPropertyNames()) {
+            index.put(className, unmodifiableSet(StringUtils.commaDelimitedListToSet(properties.getProperty(className))));
+        }
+        return index;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import de.rweisleder.archunit.spring.EvaluationListener;
+
+import java.util.List;
+
+/**
+ * For internal use only.
+ * <p>
+ * Notifies the {@link EvaluationListener EvaluationListeners} registered in the {@link ArchUnitSpringConfiguration}.
+ * Callers should check {@link #isActive()} before measuring anything, so that the evaluation is not slowed down
+ * if no listener is registered.
+ */
+public final class EvaluationListeners {
+
+    private EvaluationListeners() {
+    }
+
+    public static boolean isActive() {
+        return ArchUnitSpringConfiguration.get().hasEvaluationListeners();
+    }
+
+    public static void predicateEvaluated(String predicateDescription, long durationNanos) {
+        for (EvaluationListener listener : listeners()) {
+            listener.predicateEvaluated(predicateDescription, durationNanos);
+        }
+    }
+
+    public static void mergedAnnotationsResolved(CanBeAnnotated annotated, long durationNanos) {
+        for (EvaluationListener listener : listeners()) {
+            listener.mergedAnnotationsResolved(annotated, durationNanos);
+        }
+    }
+
+    public static void mergedAnnotationsCacheHit(CanBeAnnotated annotated) {
+        for (EvaluationListener listener : listeners()) {
+            listener.mergedAnnotationsCacheHit(annotated);
+        }
+    }
+
+    public static void reflectionFallback(CanBeAnnotated annotated) {
+        for (EvaluationListener listener : listeners()) {
+            listener.reflectionFallback(annotated);
+        }
+    }
+
+    public static void metadataReaderCacheAccessed(String className, boolean cacheHit) {
+        for (EvaluationListener listener : listeners()) {
+            listener.metadataReaderCacheAccessed(className, cacheHit);
+        }
+    }
+
+    public static void ruleEvaluated(String ruleDescription, long durationNanos) {
+        for (EvaluationListener listener : listeners()) {
+            listener.ruleEvaluated(ruleDescription, durationNanos);
+        }
+    }
+
+    private static List<EvaluationListener> listeners() {
+        return ArchUnitSpringConfiguration.get().getEvaluationListeners();
+    }
+}
@@ -19,15 +19,27 @@
  */
 package de.rweisleder.archunit.spring.internal;
 
+import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.core.domain.properties.HasAnnotations;
 import com.tngtech.archunit.lang.AbstractClassesTransformer;
 import com.tngtech.archunit.lang.ClassesTransformer;
 import org.springframework.util.ClassUtils;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWithAnyOf;
 
 /**
  * For internal use only.
@@ -39,23 +51,129 @@ public final class InternalUtils {
     private InternalUtils() {
     }
 
+    /**
+     * Returns the methods that are declared in the given classes or inherited from their supertypes.
+     * <p>
+     * The methods are not collected upfront, but streamed class by class while iterating.
+     * Each class and supertype is visited only once, so inherited methods are neither repeated
+     * for each subclass nor need to be de-duplicated.
+     */
     public static ClassesTransformer<JavaMethod> availableMethods() {
         return new AbstractClassesTransformer<JavaMethod>("methods") {
             @Override
             public Iterable<JavaMethod> doTransform(JavaClasses javaClasses) {
-                Set<JavaMethod> availableMethods = new HashSet<>();
-                for (JavaClass javaClass : javaClasses) {
-                    availableMethods.addAll(javaClass.getAllMethods());
-                }
-                return availableMethods;
+                return () -> new AvailableMethodsIterator(javaClasses);
+            }
+        };
+    }
+
+    /**
+     * Returns the {@link #availableMethods() available methods} that are directly or meta-annotated with any of
+     * the given annotation types, according to Spring's annotation model.
+     * <p>
+     * Methods of imported classes without any annotation are skipped without evaluating the annotation types,
+     * and the annotations of the other methods are checked via the {@link MetaAnnotationIndex}.
+     * Only the methods of supertypes that were not imported need to be resolved via reflection.
+     */
+    public static ClassesTransformer<JavaMethod> availableMethodsAnnotatedWith(String... annotationTypeNames) {
+        DescribedPredicate<CanBeAnnotated> annotatedWith = springAnnotatedWithAnyOf(annotationTypeNames);
+        return availableMethodsMatching(method -> isAnnotatedWith(method, method.getOwner(), annotatedWith));
+    }
+
+    /**
+     * Returns the {@link #availableMethods() available methods} that are directly or meta-annotated with any of
+     * the given annotation types, or that are declared in a class annotated with any of them.
+     *
+     * @see #availableMethodsAnnotatedWith(String...)
+     */
+    public static ClassesTransformer<JavaMethod> availableMethodsAnnotatedOrDeclaredInClassAnnotatedWith(String... annotationTypeNames) {
+        DescribedPredicate<CanBeAnnotated> annotatedWith = springAnnotatedWithAnyOf(annotationTypeNames);
+        return availableMethodsMatching(method -> isAnnotatedWith(method, method.getOwner(), annotatedWith)
+                || isAnnotatedWith(method.getOwner(), method.getOwner(), annotatedWith));
+    }
+
+    private static ClassesTransformer<JavaMethod> availableMethodsMatching(Predicate<JavaMethod> predicate) {
+        ClassesTransformer<JavaMethod> availableMethods = availableMethods();
+        return new AbstractClassesTransformer<JavaMethod>("methods") {
+            @Override
+            public Iterable<JavaMethod> doTransform(JavaClasses javaClasses) {
+                Iterable<JavaMethod> methods = availableMethods.transform(javaClasses);
+                return () -> StreamSupport.stream(methods.spliterator(), false).filter(predicate).iterator();
             }
         };
     }
 
+    /**
+     * Returns whether the given element is annotated according to the given predicate.
+     * The annotations of elements of imported classes are completely known, so an element without any annotation
+     * can be skipped without evaluating the predicate.
+     */
+    private static boolean isAnnotatedWith(HasAnnotations<?> annotated, JavaClass owner, DescribedPredicate<CanBeAnnotated> annotatedWith) {
+        if (owner.isFullyImported() && annotated.getAnnotations().isEmpty()) {
+            return false;
+        }
+        return annotatedWith.test(annotated);
+    }
+
     public static boolean isSpringFramework6() {
         if (isSpringFramework6 == null) {
             isSpringFramework6 = ClassUtils.isPresent("org.springframework.aot.AotDetector", null);
         }
         return isSpringFramework6;
     }
+
+    /**
+     * Iterates over the declared methods of the given classes, followed by the declared methods of each supertype
+     * that is not part of the given classes.
+     */
+    private static final class AvailableMethodsIterator implements Iterator<JavaMethod> {
+
+        private final JavaClasses javaClasses;
+        private final Iterator<JavaClass> classes;
+        private final Set<JavaClass> visitedSupertypes = new HashSet<>();
+        private final Deque<JavaClass> pendingSupertypes = new ArrayDeque<>();
+        private Iterator<JavaMethod> methods = Collections.emptyIterator();
+
+        private AvailableMethodsIterator(JavaClasses javaClasses) {
+            this.javaClasses = javaClasses;
+            this.classes = javaClasses.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!methods.hasNext()) {
+                JavaClass nextClass = nextClass();
+                if (nextClass == null) {
+                    return false;
+                }
+                methods = nextClass.getMethods().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public JavaMethod next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return methods.next();
+        }
+
+        private JavaClass nextClass() {
+            if (!pendingSupertypes.isEmpty()) {
+                return pendingSupertypes.poll();
+            }
+            if (!classes.hasNext()) {
+                return null;
+            }
+
+            JavaClass javaClass = classes.next();
+            for (JavaClass supertype : javaClass.getAllClassesSelfIsAssignableTo()) {
+                if (!supertype.equals(javaClass) && !javaClasses.contain(supertype.getName()) && visitedSupertypes.add(supertype)) {
+                    pendingSupertypes.add(supertype);
+                }
+            }
+            return javaClass;
+        }
+    }
 }
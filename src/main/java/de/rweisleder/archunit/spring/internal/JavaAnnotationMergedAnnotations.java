@@ -0,0 +1,220 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaEnumConstant;
+import org.springframework.core.annotation.AnnotationFilter;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * For internal use only.
+ * <p>
+ * Creates {@link MergedAnnotations} from the annotations that ArchUnit has already read from the bytecode,
+ * without loading the annotated classes via reflection.
+ * Only the annotation types and the enum types of annotation attributes are loaded,
+ * as Spring requires them to resolve meta-annotations and attribute aliases.
+ * Class values of annotation attributes are only loaded if they are explicitly requested as {@link Class}.
+ */
+public final class JavaAnnotationMergedAnnotations {
+
+    private JavaAnnotationMergedAnnotations() {
+    }
+
+    public static MergedAnnotations from(Object source, Collection<? extends JavaAnnotation<?>> javaAnnotations) {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+        List<MergedAnnotation<?>> mergedAnnotations = new ArrayList<>(javaAnnotations.size());
+        for (JavaAnnotation<?> javaAnnotation : javaAnnotations) {
+            String annotationTypeName = javaAnnotation.getRawType().getName();
+            if (AnnotationFilter.PLAIN.matches(annotationTypeName)) {
+                continue;
+            }
+
+            Class<? extends Annotation> annotationType = loadRuntimeAnnotationType(annotationTypeName);
+            if (annotationType == null) {
+                // Same as Spring's annotation reading, annotations that are not visible at runtime or
+                // that cannot be resolved are ignored.
+                continue;
+            }
+
+            MergedAnnotation<?> mergedAnnotation = asMergedAnnotation(classLoader, source, annotationType, javaAnnotation);
+            if (mergedAnnotation != null) {
+                mergedAnnotations.add(mergedAnnotation);
+            }
+        }
+        return MergedAnnotations.of(mergedAnnotations);
+    }
+
+    /**
+     * Loads the given annotation type if it is retained at runtime, otherwise returns {@code null}.
+     * Annotations with {@code CLASS} retention are part of the bytecode that ArchUnit reads,
+     * but they are never visible for Spring, and must not be considered either.
+     */
+    @SuppressWarnings("unchecked")
+    static Class<? extends Annotation> loadRuntimeAnnotationType(String annotationTypeName) {
+        try {
+            Class<?> type = ClassUtils.forName(annotationTypeName, ClassUtils.getDefaultClassLoader());
+            if (!type.isAnnotation()) {
+                return null;
+            }
+
+            Retention retention = type.getAnnotation(Retention.class);
+            if (retention == null || retention.value() != RetentionPolicy.RUNTIME) {
+                return null;
+            }
+
+            return (Class<? extends Annotation>) type;
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return null;
+        }
+    }
+
+    private static MergedAnnotation<?> asMergedAnnotation(ClassLoader classLoader, Object source, JavaAnnotation<?> javaAnnotation) {
+        Class<? extends Annotation> annotationType = loadAnnotationType(classLoader, javaAnnotation.getRawType());
+        if (annotationType == null) {
+            return null;
+        }
+
+        return asMergedAnnotation(classLoader, source, annotationType, javaAnnotation);
+    }
+
+    private static MergedAnnotation<?> asMergedAnnotation(ClassLoader classLoader, Object source,
+                                                          Class<? extends Annotation> annotationType, JavaAnnotation<?> javaAnnotation) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> property : javaAnnotation.getProperties().entrySet()) {
+            Object value = adaptValue(classLoader, source, property.getValue());
+            if (value != null) {
+                attributes.put(property.getKey(), value);
+            }
+        }
+
+        try {
+            return MergedAnnotation.of(classLoader, source, annotationType, attributes);
+        } catch (RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> loadAnnotationType(ClassLoader classLoader, JavaClass annotationType) {
+        try {
+            Class<?> type = ClassUtils.forName(annotationType.getName(), classLoader);
+            return type.isAnnotation() ? (Class<? extends Annotation>) type : null;
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts a property value of ArchUnit's annotation model into the representation that Spring uses
+     * when reading annotations from the bytecode. Returns {@code null} if the value cannot be converted,
+     * in which case Spring falls back to the default value of the attribute.
+     */
+    private static Object adaptValue(ClassLoader classLoader, Object source, Object value) {
+        if (value instanceof JavaClass) {
+            return ((JavaClass) value).getName();
+        }
+
+        if (value instanceof JavaClass[]) {
+            JavaClass[] javaClasses = (JavaClass[]) value;
+            String[] classNames = new String[javaClasses.length];
+            for (int i = 0; i < javaClasses.length; i++) {
+                classNames[i] = javaClasses[i].getName();
+            }
+            return classNames;
+        }
+
+        if (value instanceof JavaEnumConstant) {
+            return asEnum(classLoader, (JavaEnumConstant) value);
+        }
+
+        if (value instanceof JavaEnumConstant[]) {
+            JavaEnumConstant[] enumConstants = (JavaEnumConstant[]) value;
+            Class<?> enumType = enumConstants.length > 0 ? loadClass(classLoader, enumConstants[0].getDeclaringClass()) : null;
+            if (enumType == null) {
+                return null;
+            }
+
+            Object enums = Array.newInstance(enumType, enumConstants.length);
+            for (int i = 0; i < enumConstants.length; i++) {
+                Object enumValue = asEnum(classLoader, enumConstants[i]);
+                if (enumValue == null) {
+                    return null;
+                }
+                Array.set(enums, i, enumValue);
+            }
+            return enums;
+        }
+
+        if (value instanceof JavaAnnotation) {
+            return asMergedAnnotation(classLoader, source, (JavaAnnotation<?>) value);
+        }
+
+        if (value instanceof JavaAnnotation[]) {
+            JavaAnnotation<?>[] javaAnnotations = (JavaAnnotation<?>[]) value;
+            MergedAnnotation<?>[] mergedAnnotations = new MergedAnnotation<?>[javaAnnotations.length];
+            for (int i = 0; i < javaAnnotations.length; i++) {
+                mergedAnnotations[i] = asMergedAnnotation(classLoader, source, javaAnnotations[i]);
+                if (mergedAnnotations[i] == null) {
+                    return null;
+                }
+            }
+            return mergedAnnotations;
+        }
+
+        return value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object asEnum(ClassLoader classLoader, JavaEnumConstant enumConstant) {
+        Class<?> enumType = loadClass(classLoader, enumConstant.getDeclaringClass());
+        if (enumType == null || !enumType.isEnum()) {
+            return null;
+        }
+
+        try {
+            return Enum.valueOf((Class<? extends Enum>) enumType, enumConstant.name());
+        } catch (IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+
+    private static Class<?> loadClass(ClassLoader classLoader, JavaClass javaClass) {
+        try {
+            return ClassUtils.forName(javaClass.getName(), classLoader);
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return null;
+        }
+    }
+}
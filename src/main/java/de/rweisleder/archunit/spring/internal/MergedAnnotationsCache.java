@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.JavaParameter;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import org.springframework.core.annotation.MergedAnnotations;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * For internal use only.
+ * <p>
+ * Caches the {@link MergedAnnotations} that were resolved for an annotated element.
+ * The keys are weakly referenced, so that the classes of an import can be garbage collected.
+ * Once the {@link ArchUnitSpringConfiguration#getMergedAnnotationsCacheSize() configured size} is exceeded,
+ * the least recently used entries are evicted.
+ * The cached values must not reference the annotated elements, as this would keep the keys reachable.
+ */
+public final class MergedAnnotationsCache {
+
+    // Elements that cannot be resolved are cached as empty Optional. MergedAnnotations.of(emptyList()) cannot be used
+    // as marker, as it is the same instance that Spring returns for elements without annotations.
+    final WeakIdentityMap<CanBeAnnotated, Optional<MergedAnnotations>> cache = new WeakIdentityMap<>();
+
+    /**
+     * Returns the cached merged annotations of the given element, or resolves them with the given function.
+     * The function may return {@code null} if the merged annotations cannot be resolved.
+     */
+    public MergedAnnotations get(CanBeAnnotated annotated, Function<CanBeAnnotated, MergedAnnotations> resolver) {
+        ArchUnitSpringConfiguration configuration = ArchUnitSpringConfiguration.get();
+        if (!configuration.isMergedAnnotationsCacheEnabled()) {
+            return resolve(annotated, resolver);
+        }
+
+        Optional<MergedAnnotations> cachedMergedAnnotations = cache.get(annotated);
+        if (cachedMergedAnnotations == null) {
+            MergedAnnotations mergedAnnotations = resolve(annotated, resolver);
+            int cacheSize = configuration.getMergedAnnotationsCacheSize();
+            if (cacheSize > 0) {
+                cache.put(annotated, Optional.ofNullable(mergedAnnotations));
+            }
+            cache.trimToSize(cacheSize);
+            return mergedAnnotations;
+        }
+
+        if (EvaluationListeners.isActive()) {
+            EvaluationListeners.mergedAnnotationsCacheHit(annotated);
+        }
+        return cachedMergedAnnotations.orElse(null);
+    }
+
+    private static MergedAnnotations resolve(CanBeAnnotated annotated, Function<CanBeAnnotated, MergedAnnotations> resolver) {
+        if (!EvaluationListeners.isActive()) {
+            return resolver.apply(annotated);
+        }
+
+        long start = System.nanoTime();
+        MergedAnnotations mergedAnnotations = resolver.apply(annotated);
+        EvaluationListeners.mergedAnnotationsResolved(annotated, System.nanoTime() - start);
+        return mergedAnnotations;
+    }
+
+    /**
+     * Removes the cached merged annotations of the given class and its members.
+     */
+    public void evict(JavaClass javaClass) {
+        cache.remove(javaClass);
+        for (JavaMember member : javaClass.getMembers()) {
+            cache.remove(member);
+            if (member instanceof JavaCodeUnit) {
+                for (JavaParameter parameter : ((JavaCodeUnit) member).getParameters()) {
+                    cache.remove(parameter);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.JavaParameter;
+import com.tngtech.archunit.core.domain.properties.HasAnnotations;
+import org.springframework.core.annotation.AnnotationFilter;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.synchronizedMap;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * For internal use only.
+ * <p>
+ * Maps annotation types to the names of all annotation types they imply, i.e. the annotation type itself and
+ * all its transitive meta-annotations, according to Spring's annotation model.
+ * The set of annotation types is usually small compared with the set of annotated elements,
+ * so checking an element for the presence of an annotation becomes a lookup per declared annotation
+ * instead of a walk through the meta-annotation hierarchy.
+ * <p>
+ * The index is keyed by the {@link JavaClass} of the annotation type and built lazily,
+ * so each import of classes gets its own index that can be garbage collected together with the import.
+ * If {@link de.rweisleder.archunit.spring.ArchUnitSpringConfiguration#getAnnotationIndexFile() configured},
+ * the annotation types present on the elements of a class are computed for the whole class at once
+ * and persisted across test runs via the {@link PersistentAnnotationIndex}.
+ */
+public final class MetaAnnotationIndex {
+
+    private static final ImpliedAnnotationTypes NO_ANNOTATION_TYPES = new ImpliedAnnotationTypes(emptySet(), emptySet());
+
+    private final Map<JavaClass, ImpliedAnnotationTypes> impliedAnnotationTypes = synchronizedMap(new WeakHashMap<>());
+
+    private final Map<JavaClass, Map<String, ImpliedAnnotationTypes>> presentAnnotationTypes = synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Returns whether the given element is annotated with the given annotation type or with an annotation
+     * that is meta-annotated with it, see {@link #isPresent(Collection, String, boolean)}.
+     * The annotation types of the element are looked up in the {@link PersistentAnnotationIndex} if it is configured.
+     */
+    public boolean isPresent(HasAnnotations<?> annotated, String annotationTypeName, boolean considerRepeatedAnnotations) {
+        ImpliedAnnotationTypes present = indexedAnnotationTypes(annotated);
+        if (present == null) {
+            return isPresent(annotated.getAnnotations(), annotationTypeName, considerRepeatedAnnotations);
+        }
+        return isPresent(present, annotationTypeName, considerRepeatedAnnotations);
+    }
+
+    /**
+     * Returns a bit mask of the given annotation types that are present on the given element,
+     * see {@link #presentAnnotationTypes(Collection, String[], boolean)}.
+     * The annotation types of the element are looked up in the {@link PersistentAnnotationIndex} if it is configured.
+     */
+    public long presentAnnotationTypes(HasAnnotations<?> annotated, String[] annotationTypeNames, boolean considerRepeatedAnnotations) {
+        ImpliedAnnotationTypes present = indexedAnnotationTypes(annotated);
+        if (present == null) {
+            return presentAnnotationTypes(annotated.getAnnotations(), annotationTypeNames, considerRepeatedAnnotations);
+        }
+
+        long presentMask = 0;
+        for (int i = 0; i < annotationTypeNames.length; i++) {
+            if (isPresent(present, annotationTypeNames[i], considerRepeatedAnnotations)) {
+                presentMask |= 1L << i;
+            }
+        }
+        return presentMask;
+    }
+
+    private static boolean isPresent(ImpliedAnnotationTypes present, String annotationTypeName, boolean considerRepeatedAnnotations) {
+        if (AnnotationFilter.PLAIN.matches(annotationTypeName)) {
+            return false;
+        }
+        return present.annotationTypeNames.contains(annotationTypeName)
+                || considerRepeatedAnnotations && present.repeatedAnnotationTypeNames.contains(annotationTypeName);
+    }
+
+    /**
+     * Returns whether any of the given annotations is the given annotation type or is meta-annotated with it,
+     * equivalent to {@link MergedAnnotations#isPresent(String)} for the annotations of an element.
+     * If {@code considerRepeatedAnnotations} is {@code false}, repeated annotations are only visible via their container
+     * annotation, as with {@link de.rweisleder.archunit.spring.ArchUnitSpringConfiguration#resolveAnnotationsFromBytecodeOnly()}.
+     */
+    public boolean isPresent(Collection<? extends JavaAnnotation<?>> annotations, String annotationTypeName, boolean considerRepeatedAnnotations) {
+        if (AnnotationFilter.PLAIN.matches(annotationTypeName)) {
+            return false;
+        }
+
+        for (JavaAnnotation<?> annotation : annotations) {
+            ImpliedAnnotationTypes implied = impliedAnnotationTypes(annotation.getRawType());
+            if (implied.annotationTypeNames.contains(annotationTypeName)) {
+                return true;
+            }
+            if (considerRepeatedAnnotations && implied.repeatedAnnotationTypeNames.contains(annotationTypeName)
+                    && containsRepeatedAnnotations(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a bit mask of the given annotation types that are present on an element with the given annotations,
+     * i.e. bit {@code i} is set if {@link #isPresent(Collection, String, boolean) isPresent(annotations, annotationTypeNames[i], considerRepeatedAnnotations)}.
+     * The implied annotation types of each annotation are looked up only once for all given annotation types.
+     * At most 64 annotation types are supported.
+     */
+    public long presentAnnotationTypes(Collection<? extends JavaAnnotation<?>> annotations, String[] annotationTypeNames,
+                                       boolean considerRepeatedAnnotations) {
+        long present = 0;
+        for (JavaAnnotation<?> annotation : annotations) {
+            ImpliedAnnotationTypes implied = impliedAnnotationTypes(annotation.getRawType());
+            for (int i = 0; i < annotationTypeNames.length; i++) {
+                String annotationTypeName = annotationTypeNames[i];
+                if (implied.annotationTypeNames.contains(annotationTypeName)
+                        || considerRepeatedAnnotations && implied.repeatedAnnotationTypeNames.contains(annotationTypeName)
+                        && containsRepeatedAnnotations(annotation)) {
+                    present |= 1L << i;
+                }
+            }
+        }
+
+        for (int i = 0; i < annotationTypeNames.length; i++) {
+            if (AnnotationFilter.PLAIN.matches(annotationTypeNames[i])) {
+                present &= ~(1L << i);
+            }
+        }
+        return present;
+    }
+
+    /**
+     * Returns the names of the given annotation type and all its transitive meta-annotations.
+     */
+    public Set<String> impliedAnnotationTypeNames(JavaClass annotationType) {
+        return impliedAnnotationTypes(annotationType).annotationTypeNames;
+    }
+
+    public void clear() {
+        impliedAnnotationTypes.clear();
+        presentAnnotationTypes.clear();
+    }
+
+    /**
+     * Returns the annotation types present on the given element from the {@link PersistentAnnotationIndex},
+     * or {@code null} if no index is configured or the bytecode of the class of the element cannot be found.
+     */
+    private ImpliedAnnotationTypes indexedAnnotationTypes(HasAnnotations<?> annotated) {
+        PersistentAnnotationIndex persistentIndex = PersistentAnnotationIndex.get();
+        if (persistentIndex == null) {
+            return null;
+        }
+
+        JavaClass javaClass = ownerClass(annotated);
+        Map<String, ImpliedAnnotationTypes> classAnnotationTypes = presentAnnotationTypes.get(javaClass);
+        if (classAnnotationTypes == null) {
+            Optional<BytecodeHash> classHash = BytecodeHash.of(javaClass);
+            if (!classHash.isPresent()) {
+                return null;
+            }
+            classAnnotationTypes = persistentIndex.lookup(javaClass.getName(), classHash.get());
+            if (classAnnotationTypes == null) {
+                Set<String> annotationTypeNames = new HashSet<>();
+                classAnnotationTypes = computePresentAnnotationTypes(javaClass, annotationTypeNames);
+                persistentIndex.store(javaClass.getName(), classHash.get(), classAnnotationTypes, annotationTypeNames);
+            }
+            presentAnnotationTypes.put(javaClass, classAnnotationTypes);
+        }
+        return classAnnotationTypes.getOrDefault(elementKey(annotated), NO_ANNOTATION_TYPES);
+    }
+
+    /**
+     * Computes the annotation types present on the given class and on all its members and parameters,
+     * keyed by {@link #elementKey(HasAnnotations)}. Elements without annotations are left out.
+     * The names of all annotation types the result depends on are added to the given set.
+     */
+    private Map<String, ImpliedAnnotationTypes> computePresentAnnotationTypes(JavaClass javaClass, Set<String> annotationTypeNames) {
+        Map<String, ImpliedAnnotationTypes> classAnnotationTypes = new HashMap<>();
+        addPresentAnnotationTypes(classAnnotationTypes, javaClass, annotationTypeNames);
+        for (JavaMember member : javaClass.getMembers()) {
+            addPresentAnnotationTypes(classAnnotationTypes, member, annotationTypeNames);
+            if (member instanceof JavaCodeUnit) {
+                for (JavaParameter parameter : ((JavaCodeUnit) member).getParameters()) {
+                    addPresentAnnotationTypes(classAnnotationTypes, parameter, annotationTypeNames);
+                }
+            }
+        }
+        return classAnnotationTypes;
+    }
+
+    private void addPresentAnnotationTypes(Map<String, ImpliedAnnotationTypes> classAnnotationTypes, HasAnnotations<?> annotated,
+                                           Set<String> annotationTypeNames) {
+        if (annotated.getAnnotations().isEmpty()) {
+            return;
+        }
+
+        Set<String> presentAnnotationTypeNames = new HashSet<>();
+        Set<String> repeatedAnnotationTypeNames = new HashSet<>();
+        for (JavaAnnotation<?> annotation : annotated.getAnnotations()) {
+            ImpliedAnnotationTypes implied = impliedAnnotationTypes(annotation.getRawType());
+            presentAnnotationTypeNames.addAll(implied.annotationTypeNames);
+            if (containsRepeatedAnnotations(annotation)) {
+                repeatedAnnotationTypeNames.addAll(implied.repeatedAnnotationTypeNames);
+            }
+            annotationTypeNames.add(annotation.getRawType().getName());
+            annotationTypeNames.addAll(implied.annotationTypeNames);
+            annotationTypeNames.addAll(implied.repeatedAnnotationTypeNames);
+        }
+        repeatedAnnotationTypeNames.removeAll(presentAnnotationTypeNames);
+        classAnnotationTypes.put(elementKey(annotated), new ImpliedAnnotationTypes(presentAnnotationTypeNames, repeatedAnnotationTypeNames));
+    }
+
+    private static JavaClass ownerClass(HasAnnotations<?> annotated) {
+        if (annotated instanceof JavaMember) {
+            return ((JavaMember) annotated).getOwner();
+        }
+        if (annotated instanceof JavaParameter) {
+            return ((JavaParameter) annotated).getOwner().getOwner();
+        }
+        return (JavaClass) annotated;
+    }
+
+    /**
+     * Returns a key for the given element that is unique within its class, e.g. {@code .method(java.lang.String)}
+     * for a method and {@code .method(java.lang.String)#0} for its first parameter.
+     */
+    private static String elementKey(HasAnnotations<?> annotated) {
+        if (annotated instanceof JavaMember) {
+            JavaMember member = (JavaMember) annotated;
+            return member.getFullName().substring(member.getOwner().getName().length());
+        }
+        if (annotated instanceof JavaParameter) {
+            JavaParameter parameter = (JavaParameter) annotated;
+            return elementKey(parameter.getOwner()) + "#" + parameter.getIndex();
+        }
+        return "";
+    }
+
+    private ImpliedAnnotationTypes impliedAnnotationTypes(JavaClass annotationType) {
+        ImpliedAnnotationTypes implied = impliedAnnotationTypes.get(annotationType);
+        if (implied == null) {
+            implied = computeImpliedAnnotationTypes(annotationType.getName());
+            impliedAnnotationTypes.put(annotationType, implied);
+        }
+        return implied;
+    }
+
+    private static boolean containsRepeatedAnnotations(JavaAnnotation<?> container) {
+        Object value = container.get("value").orElse(null);
+        return value instanceof Object[] && ((Object[]) value).length > 0;
+    }
+
+    private static ImpliedAnnotationTypes computeImpliedAnnotationTypes(String annotationTypeName) {
+        Class<? extends Annotation> annotationType = JavaAnnotationMergedAnnotations.loadRuntimeAnnotationType(annotationTypeName);
+        if (annotationType == null) {
+            // Annotations that are not visible at runtime are also not visible for Spring.
+            return new ImpliedAnnotationTypes(emptySet(), emptySet());
+        }
+
+        // Spring considers both the container of repeatable annotations and the repeated annotations themselves.
+        Class<? extends Annotation> repeatableAnnotationType = repeatableAnnotationType(annotationType);
+        Set<String> repeatedAnnotationTypeNames = repeatableAnnotationType != null
+                ? computeImpliedAnnotationTypes(repeatableAnnotationType.getName()).annotationTypeNames
+                : emptySet();
+
+        Set<String> annotationTypeNames = new HashSet<>();
+        annotationTypeNames.add(annotationType.getName());
+        for (MergedAnnotation<Annotation> metaAnnotation : MergedAnnotations.from(annotationType)) {
+            annotationTypeNames.add(metaAnnotation.getType().getName());
+        }
+        return new ImpliedAnnotationTypes(annotationTypeNames, repeatedAnnotationTypeNames);
+    }
+
+    /**
+     * Returns the repeatable annotation type if the given annotation type is its container,
+     * equivalent to the check of {@code RepeatableContainers.standardRepeatables()}.
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> repeatableAnnotationType(Class<? extends Annotation> annotationType) {
+        Method value;
+        try {
+            value = annotationType.getDeclaredMethod("value");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+
+        Class<?> returnType = value.getReturnType();
+        if (!returnType.isArray() || !returnType.getComponentType().isAnnotation()) {
+            return null;
+        }
+
+        Class<?> componentType = returnType.getComponentType();
+        Repeatable repeatable = componentType.getAnnotation(Repeatable.class);
+        if (repeatable == null || repeatable.value() != annotationType) {
+            return null;
+        }
+
+        return (Class<? extends Annotation>) componentType;
+    }
+
+    static final class ImpliedAnnotationTypes {
+
+        final Set<String> annotationTypeNames;
+        final Set<String> repeatedAnnotationTypeNames;
+
+        ImpliedAnnotationTypes(Set<String> annotationTypeNames, Set<String> repeatedAnnotationTypeNames) {
+            this.annotationTypeNames = unmodifiableSet(annotationTypeNames);
+            this.repeatedAnnotationTypeNames = unmodifiableSet(repeatedAnnotationTypeNames);
+        }
+    }
+}
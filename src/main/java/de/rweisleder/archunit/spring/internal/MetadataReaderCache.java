@@ -0,0 +1,106 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import org.springframework.core.type.classreading.MetadataReader;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * For internal use only.
+ * <p>
+ * Caches the {@link MetadataReader MetadataReaders} of the {@link ArchUnitSpringConfiguration#getMetadataReaderFactory()
+ * configured MetadataReaderFactory}, evicting the least recently used entries once the
+ * {@link ArchUnitSpringConfiguration#getMetadataReaderCacheSize() configured size} is exceeded.
+ */
+public final class MetadataReaderCache {
+
+    private final Map<String, MetadataReader> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hitCount;
+    private long missCount;
+
+    public MetadataReader getMetadataReader(String className) throws IOException {
+        MetadataReader cachedMetadataReader;
+        synchronized (cache) {
+            cachedMetadataReader = cache.get(className);
+            if (cachedMetadataReader != null) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+        if (EvaluationListeners.isActive()) {
+            EvaluationListeners.metadataReaderCacheAccessed(className, cachedMetadataReader != null);
+        }
+        if (cachedMetadataReader != null) {
+            return cachedMetadataReader;
+        }
+
+        ArchUnitSpringConfiguration configuration = ArchUnitSpringConfiguration.get();
+        MetadataReader metadataReader = configuration.getMetadataReaderFactory().getMetadataReader(className);
+
+        synchronized (cache) {
+            int cacheSize = configuration.getMetadataReaderCacheSize();
+            if (cacheSize > 0) {
+                cache.put(className, metadataReader);
+            }
+            while (cache.size() > cacheSize) {
+                cache.remove(cache.keySet().iterator().next());
+            }
+        }
+        return metadataReader;
+    }
+
+    public void evict(String className) {
+        synchronized (cache) {
+            cache.remove(className);
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            hitCount = 0;
+            missCount = 0;
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (cache) {
+            return hitCount;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (cache) {
+            return missCount;
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static de.rweisleder.archunit.spring.internal.InternalUtils.isSpringFramework6;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * For internal use only.
+ * <p>
+ * Finds the {@link MethodMetadata} that Spring has read from the bytecode of a class for a given {@link JavaMethod}.
+ * The methods of each class are indexed once by name and parameter types, so that overloaded methods can be
+ * distinguished and each lookup is a constant-time operation.
+ * <p>
+ * {@link MethodMetadata} does not expose the parameter types, so the method descriptors are read from the bytecode
+ * as well. Spring reads the methods in the order of the class file, so the n-th method metadata with a given name
+ * belongs to the n-th method descriptor with this name. If Spring only provides the annotated methods,
+ * overloaded methods cannot be assigned and are not found.
+ */
+public final class MethodMetadataIndex {
+
+    // The index is kept as long as the metadata is referenced, e.g. by the MetadataReaderCache.
+    private final Map<AnnotationMetadata, Map<String, MethodMetadata>> methodMetadataBySignature = synchronizedMap(new WeakHashMap<>());
+
+    public MethodMetadata find(MetadataReader metadataReader, JavaMethod javaMethod) {
+        AnnotationMetadata annotationMetadata = metadataReader.getAnnotationMetadata();
+        Map<String, MethodMetadata> index = methodMetadataBySignature.get(annotationMetadata);
+        if (index == null) {
+            index = createIndex(metadataReader);
+            methodMetadataBySignature.put(annotationMetadata, index);
+        }
+        return index.get(signature(javaMethod));
+    }
+
+    public void clear() {
+        methodMetadataBySignature.clear();
+    }
+
+    private static Map<String, MethodMetadata> createIndex(MetadataReader metadataReader) {
+        Map<String, List<String>> descriptorsByName = readMethodDescriptors(metadataReader);
+        Collection<MethodMetadata> declaredMethods = declaredMethods(metadataReader.getAnnotationMetadata());
+
+        Map<String, List<MethodMetadata>> methodMetadataByName = new HashMap<>();
+        for (MethodMetadata methodMetadata : declaredMethods) {
+            methodMetadataByName.computeIfAbsent(methodMetadata.getMethodName(), name -> new ArrayList<>()).add(methodMetadata);
+        }
+
+        Map<String, MethodMetadata> index = new HashMap<>();
+        methodMetadataByName.forEach((name, methodMetadataWithName) -> {
+            List<String> descriptors = descriptorsByName.getOrDefault(name, emptyList());
+            if (descriptors.size() == methodMetadataWithName.size()) {
+                for (int i = 0; i < descriptors.size(); i++) {
+                    index.put(signature(name, descriptors.get(i)), methodMetadataWithName.get(i));
+                }
+            }
+        });
+        return index;
+    }
+
+    private static Collection<MethodMetadata> declaredMethods(AnnotationMetadata annotationMetadata) {
+        if (isSpringFramework6()) {
+            return annotationMetadata.getDeclaredMethods();
+        }
+
+        Field annotatedMethodsField = ReflectionUtils.findField(annotationMetadata.getClass(), "annotatedMethods");
+        if (annotatedMethodsField != null) {
+            ReflectionUtils.makeAccessible(annotatedMethodsField);
+            MethodMetadata[] annotatedMethods = (MethodMetadata[]) ReflectionUtils.getField(annotatedMethodsField, annotationMetadata);
+            if (annotatedMethods != null) {
+                return Arrays.asList(annotatedMethods);
+            }
+        }
+        return emptyList();
+    }
+
+    /**
+     * Returns the descriptors of the methods that Spring considers, grouped by method name in the order of the class file.
+     */
+    private static Map<String, List<String>> readMethodDescriptors(MetadataReader metadataReader) {
+        Map<String, List<String>> descriptorsByName = new HashMap<>();
+        try (InputStream inputStream = metadataReader.getResource().getInputStream()) {
+            new ClassReader(inputStream).accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                    // Spring skips bridge methods and constructors as well.
+                    if ((access & Opcodes.ACC_BRIDGE) == 0 && !name.equals("<init>")) {
+                        descriptorsByName.computeIfAbsent(name, key -> new ArrayList<>()).add(descriptor);
+                    }
+                    return null;
+                }
+            }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException ignored) {
+            return emptyMap();
+        }
+        return descriptorsByName;
+    }
+
+    /**
+     * Returns the signature in the form {@code name(type1,type2)}.
+     */
+    private static String signature(String methodName, String descriptor) {
+        StringBuilder signature = new StringBuilder(methodName).append('(');
+        boolean first = true;
+        for (Type argumentType : Type.getArgumentTypes(descriptor)) {
+            if (!first) {
+                signature.append(',');
+            }
+            signature.append(argumentType.getClassName());
+            first = false;
+        }
+        return signature.append(')').toString();
+    }
+
+    private static String signature(JavaMethod javaMethod) {
+        StringBuilder signature = new StringBuilder(javaMethod.getName()).append('(');
+        boolean first = true;
+        for (JavaClass parameterType : javaMethod.getRawParameterTypes()) {
+            if (!first) {
+                signature.append(',');
+            }
+            appendTypeName(signature, parameterType);
+            first = false;
+        }
+        return signature.append(')').toString();
+    }
+
+    private static void appendTypeName(StringBuilder builder, JavaClass type) {
+        if (type.isArray()) {
+            appendTypeName(builder, type.getComponentType());
+            builder.append("[]");
+        } else {
+            builder.append(type.getName());
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import de.rweisleder.archunit.spring.internal.MetaAnnotationIndex.ImpliedAnnotationTypes;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * For internal use only.
+ * <p>
+ * Persists the annotation types that are present on a class and its members, as computed by the {@link MetaAnnotationIndex},
+ * in the {@link ArchUnitSpringConfiguration#getAnnotationIndexFile() configured file}, so that subsequent test runs
+ * can check unchanged classes for annotations without loading the annotation types or letting Spring analyze them.
+ * <p>
+ * The entries are keyed by the name and the {@link BytecodeHash bytecode hash} of a class. An entry also records
+ * the bytecode hashes of all annotation types it depends on, so it is resolved again if the class itself,
+ * one of its annotation types, or any of their meta-annotations has changed.
+ * The file is read on first use and only written by an explicit {@link #save()}.
+ * Entries that were not used since the file was read are removed on save, so that the file does not keep growing
+ * with classes that no longer exist.
+ */
+public final class PersistentAnnotationIndex {
+
+    private static final int MAGIC = 0x41534149;
+
+    private static final int VERSION = 2;
+
+    private static final int HASH_LENGTH = 16;
+
+    /**
+     * The hash of an annotation type whose bytecode cannot be found, which is the MD5 hash of no bytes
+     * and therefore does not match any class file.
+     */
+    private static final BytecodeHash NO_BYTECODE = BytecodeHash.parse("d41d8cd98f00b204e9800998ecf8427e");
+
+    private static volatile PersistentAnnotationIndex current;
+
+    private final Path configuredFile;
+
+    private final Path file;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Set<String> usedEntries = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, BytecodeHash> currentAnnotationTypeHashes = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean modified = new AtomicBoolean();
+
+    PersistentAnnotationIndex(Path file) {
+        this.configuredFile = file;
+        this.file = file.toAbsolutePath().normalize();
+        if (Files.isRegularFile(this.file)) {
+            try {
+                read();
+            } catch (IOException | RuntimeException ignored) {
+                // An unreadable index is treated like a missing one and overwritten on the next save.
+                entries.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the index for the configured file, or {@code null} if no file is configured.
+     * The file is read when the index is requested for the first time after the configured file has changed.
+     */
+    public static PersistentAnnotationIndex get() {
+        Path file = ArchUnitSpringConfiguration.get().getAnnotationIndexFile();
+        if (file == null) {
+            return null;
+        }
+
+        PersistentAnnotationIndex index = current;
+        if (index == null || index.configuredFile != file) {
+            synchronized (PersistentAnnotationIndex.class) {
+                index = current;
+                if (index == null || index.configuredFile != file) {
+                    index = new PersistentAnnotationIndex(file);
+                    current = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the stored annotation types of the elements of the given class, keyed like in
+     * {@link #store(String, BytecodeHash, Map, Set)}, or {@code null} if there is no entry for the class,
+     * or if the bytecode of the class or of any annotation type of the entry has changed.
+     * A returned entry is kept on the next {@link #save()}.
+     */
+    Map<String, ImpliedAnnotationTypes> lookup(String className, BytecodeHash classHash) {
+        Entry entry = entries.get(className);
+        if (entry == null || !entry.classHash.equals(classHash)) {
+            return null;
+        }
+
+        for (Map.Entry<String, BytecodeHash> annotationTypeHash : entry.annotationTypeHashes.entrySet()) {
+            if (!currentHash(annotationTypeHash.getKey()).equals(annotationTypeHash.getValue())) {
+                return null;
+            }
+        }
+        usedEntries.add(className);
+        return entry.elements;
+    }
+
+    /**
+     * Stores the annotation types of the elements of the given class, which were computed from the given annotation types.
+     * Annotation types without bytecode, e.g. from optional dependencies, are recorded as such, so that the entry
+     * is resolved again once their bytecode can be found.
+     */
+    void store(String className, BytecodeHash classHash, Map<String, ImpliedAnnotationTypes> elements, Set<String> annotationTypeNames) {
+        Map<String, BytecodeHash> annotationTypeHashes = new HashMap<>();
+        for (String annotationTypeName : annotationTypeNames) {
+            annotationTypeHashes.put(annotationTypeName, currentHash(annotationTypeName));
+        }
+
+        entries.put(className, new Entry(classHash, annotationTypeHashes, elements));
+        usedEntries.add(className);
+        modified.set(true);
+    }
+
+    private BytecodeHash currentHash(String annotationTypeName) {
+        return currentAnnotationTypeHashes.computeIfAbsent(annotationTypeName, name -> BytecodeHash.of(name).orElse(NO_BYTECODE));
+    }
+
+    /**
+     * Removes the entries that were not used since the index was read,
+     * and writes the index if any entry was added or removed.
+     * The file is replaced atomically where supported, so that concurrent test JVMs do not see partial files.
+     */
+    public synchronized void save() {
+        boolean pruned = entries.keySet().retainAll(usedEntries);
+        if (!modified.getAndSet(false) && !pruned) {
+            return;
+        }
+
+        try {
+            Path directory = file.getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                write(output);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write annotation index " + file, e);
+        }
+    }
+
+    /**
+     * The file starts with a table of all names and a table of all annotation type hashes,
+     * which the entries refer to by their position, as most classes share the same few annotation types.
+     */
+    private void write(DataOutputStream output) throws IOException {
+        Map<String, Entry> entries = new HashMap<>(this.entries);
+        Map<String, Integer> names = new LinkedHashMap<>();
+        Map<AnnotationTypeHash, Integer> annotationTypeHashes = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            names.putIfAbsent(entry.getKey(), names.size());
+            for (Map.Entry<String, BytecodeHash> hash : entry.getValue().annotationTypeHashes.entrySet()) {
+                names.putIfAbsent(hash.getKey(), names.size());
+                annotationTypeHashes.putIfAbsent(new AnnotationTypeHash(hash.getKey(), hash.getValue()), annotationTypeHashes.size());
+            }
+            for (Map.Entry<String, ImpliedAnnotationTypes> element : entry.getValue().elements.entrySet()) {
+                names.putIfAbsent(element.getKey(), names.size());
+                for (String annotationTypeName : element.getValue().annotationTypeNames) {
+                    names.putIfAbsent(annotationTypeName, names.size());
+                }
+                for (String annotationTypeName : element.getValue().repeatedAnnotationTypeNames) {
+                    names.putIfAbsent(annotationTypeName, names.size());
+                }
+            }
+        }
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(names.size());
+        for (String name : names.keySet()) {
+            output.writeUTF(name);
+        }
+        output.writeInt(annotationTypeHashes.size());
+        for (AnnotationTypeHash annotationTypeHash : annotationTypeHashes.keySet()) {
+            output.writeInt(names.get(annotationTypeHash.annotationTypeName));
+            output.write(annotationTypeHash.hash.getBytes());
+        }
+
+        output.writeInt(entries.size());
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            Entry value = entry.getValue();
+            output.writeInt(names.get(entry.getKey()));
+            output.write(value.classHash.getBytes());
+            output.writeInt(value.annotationTypeHashes.size());
+            for (Map.Entry<String, BytecodeHash> hash : value.annotationTypeHashes.entrySet()) {
+                output.writeInt(annotationTypeHashes.get(new AnnotationTypeHash(hash.getKey(), hash.getValue())));
+            }
+            output.writeInt(value.elements.size());
+            for (Map.Entry<String, ImpliedAnnotationTypes> element : value.elements.entrySet()) {
+                output.writeInt(names.get(element.getKey()));
+                writeNames(output, names, element.getValue().annotationTypeNames);
+                writeNames(output, names, element.getValue().repeatedAnnotationTypeNames);
+            }
+        }
+    }
+
+    private static void writeNames(DataOutputStream output, Map<String, Integer> names, Set<String> values) throws IOException {
+        output.writeInt(values.size());
+        for (String value : values) {
+            output.writeInt(names.get(value));
+        }
+    }
+
+    private void read() throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                return;
+            }
+
+            int nameCount = input.readInt();
+            List<String> names = new ArrayList<>(nameCount);
+            for (int i = 0; i < nameCount; i++) {
+                names.add(input.readUTF());
+            }
+            int annotationTypeHashCount = input.readInt();
+            List<AnnotationTypeHash> annotationTypeHashes = new ArrayList<>(annotationTypeHashCount);
+            for (int i = 0; i < annotationTypeHashCount; i++) {
+                annotationTypeHashes.add(new AnnotationTypeHash(names.get(input.readInt()), readHash(input)));
+            }
+
+            int entryCount = input.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                String className = names.get(input.readInt());
+                BytecodeHash classHash = readHash(input);
+                int hashCount = input.readInt();
+                Map<String, BytecodeHash> hashes = new HashMap<>();
+                for (int j = 0; j < hashCount; j++) {
+                    AnnotationTypeHash annotationTypeHash = annotationTypeHashes.get(input.readInt());
+                    hashes.put(annotationTypeHash.annotationTypeName, annotationTypeHash.hash);
+                }
+                int elementCount = input.readInt();
+                Map<String, ImpliedAnnotationTypes> elements = new HashMap<>();
+                for (int j = 0; j < elementCount; j++) {
+                    String elementKey = names.get(input.readInt());
+                    Set<String> annotationTypeNames = readNames(input, names);
+                    Set<String> repeatedAnnotationTypeNames = readNames(input, names);
+                    elements.put(elementKey, new ImpliedAnnotationTypes(annotationTypeNames, repeatedAnnotationTypeNames));
+                }
+                entries.put(className, new Entry(classHash, hashes, elements));
+            }
+        }
+    }
+
+    private static BytecodeHash readHash(DataInputStream input) throws IOException {
+        byte[] hash = new byte[HASH_LENGTH];
+        input.readFully(hash);
+        return BytecodeHash.fromBytes(hash);
+    }
+
+    private static Set<String> readNames(DataInputStream input, List<String> names) throws IOException {
+        int count = input.readInt();
+        Set<String> values = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            values.add(names.get(input.readInt()));
+        }
+        return values;
+    }
+
+    private static final class Entry {
+
+        private final BytecodeHash classHash;
+
+        private final Map<String, BytecodeHash> annotationTypeHashes;
+
+        private final Map<String, ImpliedAnnotationTypes> elements;
+
+        private Entry(BytecodeHash classHash, Map<String, BytecodeHash> annotationTypeHashes, Map<String, ImpliedAnnotationTypes> elements) {
+            this.classHash = classHash;
+            this.annotationTypeHashes = annotationTypeHashes;
+            this.elements = elements;
+        }
+    }
+
+    private static final class AnnotationTypeHash {
+
+        private final String annotationTypeName;
+
+        private final BytecodeHash hash;
+
+        private AnnotationTypeHash(String annotationTypeName, BytecodeHash hash) {
+            this.annotationTypeName = annotationTypeName;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof AnnotationTypeHash)) {
+                return false;
+            }
+            AnnotationTypeHash other = (AnnotationTypeHash) obj;
+            return annotationTypeName.equals(other.annotationTypeName) && hash.equals(other.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * annotationTypeName.hashCode() + hash.hashCode();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+
+/**
+ * For internal use only.
+ * <p>
+ * Remembers the elements for which loading via reflection has failed, e.g. because of a missing dependency,
+ * so that further evaluations can skip the reflection attempt and the costs of the resulting exception.
+ * If a class itself cannot be loaded, all its members fail as well, so only the class is remembered.
+ * Otherwise, only the failed member is remembered, so that the other members of the class are still loaded via reflection.
+ * The elements are weakly referenced, so that the classes of an import can be garbage collected.
+ */
+public final class ReflectionFailureCache {
+
+    final WeakIdentityMap<CanBeAnnotated, Boolean> failedElements = new WeakIdentityMap<>();
+
+    /**
+     * Returns whether loading the given class or member has failed, or loading the class that declares the given member.
+     */
+    public boolean hasFailed(CanBeAnnotated element) {
+        if (element instanceof JavaMember && failedElements.get(((JavaMember) element).getOwner()) != null) {
+            return true;
+        }
+        return failedElements.get(element) != null;
+    }
+
+    /**
+     * Marks the given class or member as failed.
+     */
+    public void markAsFailed(CanBeAnnotated element) {
+        failedElements.put(element, Boolean.TRUE);
+    }
+
+    public void evict(JavaClass javaClass) {
+        failedElements.remove(javaClass);
+        for (JavaMember member : javaClass.getMembers()) {
+            failedElements.remove(member);
+        }
+    }
+
+    public void clear() {
+        failedElements.clear();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.AccessTarget;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMember;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * For internal use only.
+ * <p>
+ * Caches the members that {@link AccessTarget AccessTargets} resolve to.
+ * ArchUnit creates a separate target for each access, and each target resolves its member on its own.
+ * This cache shares the resolved member between all targets with the same owner and full name,
+ * so that each accessed member is resolved only once per import, independent of the number of accesses to it.
+ * <p>
+ * The cache is keyed by the {@link JavaClass} that owns the target, so each import of classes gets its own results.
+ * The owners are weakly referenced. The resolved members are referenced weakly as well,
+ * as a member references the whole import, including its owner, which would otherwise never be released from the cache.
+ */
+public final class ResolvedMemberCache {
+
+    private static final Reference<JavaMember> NOT_RESOLVABLE = new WeakReference<>(null);
+
+    final WeakIdentityMap<JavaClass, Map<String, Reference<JavaMember>>> resolvedMembers = new WeakIdentityMap<>();
+
+    /**
+     * Returns the member the given target resolves to, equivalent to {@link AccessTarget#resolveMember()}.
+     */
+    public Optional<JavaMember> resolveMember(AccessTarget target) {
+        Map<String, Reference<JavaMember>> membersOfOwner = resolvedMembers.computeIfAbsent(target.getOwner(), owner -> new ConcurrentHashMap<>());
+
+        Reference<JavaMember> cached = membersOfOwner.get(target.getFullName());
+        if (cached == NOT_RESOLVABLE) {
+            return Optional.empty();
+        }
+        JavaMember cachedMember = cached != null ? cached.get() : null;
+        if (cachedMember != null) {
+            return Optional.of(cachedMember);
+        }
+
+        Optional<? extends JavaMember> member = target.resolveMember();
+        membersOfOwner.put(target.getFullName(), member.isPresent() ? new WeakReference<>(member.get()) : NOT_RESOLVABLE);
+        return Optional.ofNullable(member.orElse(null));
+    }
+
+    public void evict(JavaClass javaClass) {
+        resolvedMembers.remove(javaClass);
+    }
+
+    public void clear() {
+        resolvedMembers.clear();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+import static de.rweisleder.archunit.spring.framework.SpringAsyncPredicates.consideredAsAsynchronous;
+
+/**
+ * For internal use only.
+ * <p>
+ * Detects whether a Spring feature is used by the methods of a class, and whether a feature is enabled by
+ * an {@code @Enable*} annotation on a class.
+ * Each feature is only detected when it is queried for the first time, and the results are cached per class,
+ * so that the rules for the individual features do not need to traverse the same methods again.
+ * <p>
+ * The cache is keyed by {@link JavaClass}, so each import of classes gets its own results that can be garbage collected
+ * together with the import.
+ */
+public final class SpringFeatureIndex {
+
+    /**
+     * A Spring feature that is used by annotating methods and that must be enabled by an {@code @Enable*} annotation.
+     */
+    public enum Feature {
+
+        ASYNC("org.springframework.scheduling.annotation.EnableAsync"),
+
+        CACHING("org.springframework.cache.annotation.EnableCaching"),
+
+        RETRY("org.springframework.retry.annotation.EnableRetry"),
+
+        SCHEDULING("org.springframework.scheduling.annotation.EnableScheduling");
+
+        private final String enableAnnotationTypeName;
+
+        Feature(String enableAnnotationTypeName) {
+            this.enableAnnotationTypeName = enableAnnotationTypeName;
+        }
+
+        public String getEnableAnnotationTypeName() {
+            return enableAnnotationTypeName;
+        }
+    }
+
+    private static final SpringFeatureIndex INSTANCE = new SpringFeatureIndex();
+
+    private final Map<Feature, DescribedPredicate<? super JavaMethod>> methodUsesFeature = new EnumMap<>(Feature.class);
+
+    private final Map<Feature, DescribedPredicate<? super JavaClass>> classEnablesFeature = new EnumMap<>(Feature.class);
+
+    final WeakIdentityMap<JavaClass, DetectedFeatures> featuresUsedByDeclaredMethods = new WeakIdentityMap<>();
+
+    final WeakIdentityMap<JavaClass, DetectedFeatures> enabledFeatures = new WeakIdentityMap<>();
+
+    private SpringFeatureIndex() {
+        methodUsesFeature.put(Feature.ASYNC, consideredAsAsynchronous());
+        methodUsesFeature.put(Feature.CACHING, springAnnotatedWith("org.springframework.cache.annotation.Cacheable"));
+        methodUsesFeature.put(Feature.RETRY, springAnnotatedWith("org.springframework.retry.annotation.Retryable"));
+        methodUsesFeature.put(Feature.SCHEDULING, springAnnotatedWith("org.springframework.scheduling.annotation.Scheduled"));
+
+        for (Feature feature : Feature.values()) {
+            classEnablesFeature.put(feature, springAnnotatedWith(feature.getEnableAnnotationTypeName()));
+        }
+    }
+
+    public static SpringFeatureIndex get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns whether the given feature is used by any method of the given classes, including inherited methods,
+     * equivalent to checking {@link JavaClass#getAllMethods()} of each class.
+     */
+    public boolean usesFeature(Collection<JavaClass> javaClasses, Feature feature) {
+        Set<JavaClass> visitedClasses = new HashSet<>();
+        for (JavaClass javaClass : javaClasses) {
+            for (JavaClass declaringClass : javaClass.getAllClassesSelfIsAssignableTo()) {
+                if (visitedClasses.add(declaringClass)
+                        && detect(featuresUsedByDeclaredMethods, declaringClass, feature, this::isUsedByDeclaredMethods)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the given feature is enabled by an {@code @Enable*} annotation on the given class.
+     */
+    public boolean enablesFeature(JavaClass javaClass, Feature feature) {
+        return detect(enabledFeatures, javaClass, feature, (declaringClass, detectedFeature) -> classEnablesFeature.get(detectedFeature).test(declaringClass));
+    }
+
+    public void evict(JavaClass javaClass) {
+        featuresUsedByDeclaredMethods.remove(javaClass);
+        enabledFeatures.remove(javaClass);
+    }
+
+    public void clear() {
+        featuresUsedByDeclaredMethods.clear();
+        enabledFeatures.clear();
+    }
+
+    private boolean isUsedByDeclaredMethods(JavaClass javaClass, Feature feature) {
+        DescribedPredicate<? super JavaMethod> usesFeature = methodUsesFeature.get(feature);
+        for (JavaMethod method : javaClass.getMethods()) {
+            if (usesFeature.test(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean detect(WeakIdentityMap<JavaClass, DetectedFeatures> cache, JavaClass javaClass, Feature feature,
+                                  BiPredicate<JavaClass, Feature> detection) {
+        DetectedFeatures detectedFeatures = cache.computeIfAbsent(javaClass, key -> new DetectedFeatures());
+        Boolean present = detectedFeatures.get(feature);
+        if (present == null) {
+            present = detection.test(javaClass, feature);
+            detectedFeatures.put(feature, present);
+        }
+        return present;
+    }
+
+    /**
+     * The features that were detected so far for a class, as bit masks indexed by {@link Feature#ordinal()}.
+     */
+    private static final class DetectedFeatures {
+
+        private int detected;
+
+        private int present;
+
+        synchronized Boolean get(Feature feature) {
+            int bit = 1 << feature.ordinal();
+            return (detected & bit) == 0 ? null : (present & bit) != 0;
+        }
+
+        synchronized void put(Feature feature, boolean isPresent) {
+            int bit = 1 << feature.ordinal();
+            detected |= bit;
+            if (isPresent) {
+                present |= bit;
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.tngtech.archunit.base.DescribedPredicate.not;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.assignableTo;
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * For internal use only.
+ * <p>
+ * Classifies classes by their Spring stereotypes. All stereotypes of a class are determined at once
+ * and cached per class as a bitset with one {@link #bit(Stereotype) bit} per stereotype,
+ * so that the predicates for the individual stereotypes, or any combination of them, are a single lookup and bit test.
+ * <p>
+ * The cache is keyed by {@link JavaClass}, so each import of classes gets its own results that can be garbage collected
+ * together with the import.
+ * <p>
+ * If the classpath root of a class contains a {@link CandidateComponentsIndex candidate components index}
+ * and its {@link ArchUnitSpringConfiguration#useCandidateComponentsIndex() usage} is enabled,
+ * classes that are not listed in the index are known to have no stereotype without resolving their annotations.
+ */
+public final class StereotypeIndex {
+
+    private static final StereotypeIndex INSTANCE = new StereotypeIndex();
+
+    private static final String COMPONENT_ANNOTATION_TYPE_NAME = "org.springframework.stereotype.Component";
+    private static final String SPRING_DATA_REPOSITORY_TYPE_NAME = "org.springframework.data.repository.Repository";
+
+    private final DescribedPredicate<JavaClass> annotatedWithComponent = springAnnotatedWith(COMPONENT_ANNOTATION_TYPE_NAME).forSubtype();
+    private final DescribedPredicate<JavaClass> annotatedWithController = springAnnotatedWith("org.springframework.stereotype.Controller").forSubtype();
+    private final DescribedPredicate<JavaClass> annotatedWithService = springAnnotatedWith("org.springframework.stereotype.Service").forSubtype();
+    private final DescribedPredicate<JavaClass> annotatedWithRepository = springAnnotatedWith("org.springframework.stereotype.Repository").forSubtype();
+    private final DescribedPredicate<JavaClass> annotatedWithConfiguration = springAnnotatedWith("org.springframework.context.annotation.Configuration").forSubtype();
+    private final DescribedPredicate<JavaClass> annotatedWithSpringBootConfiguration = springAnnotatedWith("org.springframework.boot.SpringBootConfiguration").forSubtype();
+    private final DescribedPredicate<JavaClass> springDataRepository = assignableTo(SPRING_DATA_REPOSITORY_TYPE_NAME)
+            .and(not(springAnnotatedWith("org.springframework.data.repository.NoRepositoryBean").forSubtype()));
+
+    private static final Stereotype[] STEREOTYPES = Stereotype.values();
+
+    // Boxed byte values are cached by the JVM, so the bitsets do not need any memory besides the map entries.
+    final WeakIdentityMap<JavaClass, Byte> stereotypes = new WeakIdentityMap<>();
+
+    private StereotypeIndex() {
+    }
+
+    public static StereotypeIndex get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the bit that represents the given stereotype in the result of {@link #stereotypeBits(JavaClass)}.
+     */
+    public static int bit(Stereotype stereotype) {
+        return 1 << stereotype.ordinal();
+    }
+
+    /**
+     * Returns the bits of all stereotypes of the given class.
+     */
+    public int stereotypeBits(JavaClass javaClass) {
+        Byte classStereotypes = stereotypes.get(javaClass);
+        if (classStereotypes == null) {
+            classStereotypes = (byte) computeStereotypeBits(javaClass);
+            stereotypes.put(javaClass, classStereotypes);
+        }
+        return classStereotypes;
+    }
+
+    /**
+     * Returns all stereotypes of the given class.
+     */
+    public Set<Stereotype> stereotypes(JavaClass javaClass) {
+        int bits = stereotypeBits(javaClass);
+        Set<Stereotype> classStereotypes = EnumSet.noneOf(Stereotype.class);
+        for (Stereotype stereotype : STEREOTYPES) {
+            if ((bits & bit(stereotype)) != 0) {
+                classStereotypes.add(stereotype);
+            }
+        }
+        return unmodifiableSet(classStereotypes);
+    }
+
+    public boolean hasStereotype(JavaClass javaClass, Stereotype stereotype) {
+        return (stereotypeBits(javaClass) & bit(stereotype)) != 0;
+    }
+
+    /**
+     * Returns whether the given class has any of the stereotypes whose {@link #bit(Stereotype) bits} are set in the given mask.
+     */
+    public boolean hasAnyStereotype(JavaClass javaClass, int stereotypeMask) {
+        return (stereotypeBits(javaClass) & stereotypeMask) != 0;
+    }
+
+    public void evict(JavaClass javaClass) {
+        stereotypes.remove(javaClass);
+    }
+
+    public void clear() {
+        stereotypes.clear();
+    }
+
+    private int computeStereotypeBits(JavaClass javaClass) {
+        ArchUnitSpringConfiguration configuration = ArchUnitSpringConfiguration.get();
+        Set<String> indexedStereotypes = configuration.useCandidateComponentsIndex()
+                ? CandidateComponentsIndex.get().stereotypes(javaClass)
+                : null;
+        if (indexedStereotypes == null) {
+            return computeStereotypeBits(javaClass, true, true);
+        }
+
+        // Both @Component and the Spring Data Repository interface are @Indexed, so the index contains all classes
+        // with a stereotype. Only the more specific stereotypes still need to be resolved.
+        boolean component = indexedStereotypes.contains(COMPONENT_ANNOTATION_TYPE_NAME);
+        boolean springDataRepositoryCandidate = indexedStereotypes.contains(SPRING_DATA_REPOSITORY_TYPE_NAME);
+        int bits = computeStereotypeBits(javaClass, component, springDataRepositoryCandidate);
+
+        if (configuration.verifyCandidateComponentsIndex()) {
+            int actualBits = computeStereotypeBits(javaClass, true, true);
+            if (actualBits != bits) {
+                throw new IllegalStateException("The stereotypes of " + javaClass.getName() + " in "
+                        + CandidateComponentsIndex.COMPONENTS_RESOURCE_LOCATION + " do not match its bytecode, "
+                        + "the index may be outdated: " + indexedStereotypes);
+            }
+        }
+        return bits;
+    }
+
+    private int computeStereotypeBits(JavaClass javaClass, boolean componentCandidate, boolean springDataRepositoryCandidate) {
+        int bits = 0;
+
+        if (springDataRepositoryCandidate && springDataRepository.test(javaClass)) {
+            bits |= bit(Stereotype.COMPONENT) | bit(Stereotype.REPOSITORY);
+        }
+
+        if (!componentCandidate || !annotatedWithComponent.test(javaClass)) {
+            // All other stereotype annotations are meta-annotated with @Component.
+            return bits;
+        }
+
+        bits |= bit(Stereotype.COMPONENT);
+        if (annotatedWithController.test(javaClass)) {
+            bits |= bit(Stereotype.CONTROLLER);
+        }
+        if (annotatedWithService.test(javaClass)) {
+            bits |= bit(Stereotype.SERVICE);
+        }
+        if (annotatedWithRepository.test(javaClass)) {
+            bits |= bit(Stereotype.REPOSITORY);
+        }
+        if (annotatedWithConfiguration.test(javaClass)) {
+            bits |= bit(Stereotype.CONFIGURATION);
+        }
+        if (annotatedWithSpringBootConfiguration.test(javaClass)) {
+            bits |= bit(Stereotype.SPRING_BOOT_CONFIGURATION);
+        }
+
+        return bits;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * For internal use only.
+ * <p>
+ * A thread-safe map that references its keys weakly and compares them by identity, so that the classes of an import
+ * can be garbage collected while they are still cached. In contrast to {@link java.util.WeakHashMap}, the entries are
+ * kept in access order, so that the least recently used entries can be evicted with {@link #trimToSize(int)}.
+ * The values must not reference their keys, as this would keep the keys reachable.
+ */
+public final class WeakIdentityMap<K, V> {
+
+    private final Map<WeakKey<K>, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    public synchronized V get(K key) {
+        expungeStaleEntries();
+        return entries.get(new WeakKey<>(key, null));
+    }
+
+    public synchronized void put(K key, V value) {
+        expungeStaleEntries();
+        entries.put(new WeakKey<>(key, queue), value);
+    }
+
+    public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        expungeStaleEntries();
+        return entries.computeIfAbsent(new WeakKey<>(key, queue), weakKey -> mappingFunction.apply(key));
+    }
+
+    public synchronized void remove(K key) {
+        expungeStaleEntries();
+        entries.remove(new WeakKey<>(key, null));
+    }
+
+    /**
+     * Removes the least recently used entries until at most the given number of entries is left.
+     */
+    public synchronized void trimToSize(int maxSize) {
+        expungeStaleEntries();
+        Iterator<WeakKey<K>> iterator = entries.keySet().iterator();
+        while (entries.size() > maxSize) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        while (queue.poll() != null) {
+            // the entries of these references were removed already
+        }
+    }
+
+    public synchronized int size() {
+        expungeStaleEntries();
+        return entries.size();
+    }
+
+    /**
+     * Returns the weak reference to the given key, or {@code null} if the key is not contained in this map.
+     * Clearing and enqueueing this reference has the same effect as the garbage collection of the key.
+     */
+    synchronized Reference<K> referenceTo(K key) {
+        for (WeakKey<K> weakKey : entries.keySet()) {
+            if (weakKey.get() == key) {
+                return weakKey;
+            }
+        }
+        return null;
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends K> staleKey;
+        while ((staleKey = queue.poll()) != null) {
+            entries.remove(staleKey);
+        }
+    }
+
+    private static final class WeakKey<K> extends WeakReference<K> {
+
+        private final int hashCode;
+
+        WeakKey(K key, ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.hashCode = System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof WeakKey)) {
+                return false;
+            }
+            Object key = get();
+            return key != null && key == ((WeakKey<?>) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * For internal use only.
+ * <p>
+ * Marks a rule that checks the application as a whole, e.g. whether an {@code @Enable*} annotation is present,
+ * so that {@link de.rweisleder.archunit.spring.IncrementalEvaluation} evaluates it for all classes
+ * instead of only for the affected classes.
+ * The rules derived via {@code because(..)}, {@code as(..)} or {@code allowEmptyShould(..)} keep the marker.
+ * Apart from that, the wrapped rule behaves exactly like the given rule.
+ */
+public final class WholeApplicationRule implements ArchRule {
+
+    private final ArchRule rule;
+
+    private WholeApplicationRule(ArchRule rule) {
+        this.rule = requireNonNull(rule, "rule must not be null");
+    }
+
+    public static ArchRule of(ArchRule rule) {
+        return rule instanceof WholeApplicationRule ? rule : new WholeApplicationRule(rule);
+    }
+
+    @Override
+    public void check(JavaClasses classes) {
+        Assertions.check(this, classes);
+    }
+
+    @Override
+    public EvaluationResult evaluate(JavaClasses classes) {
+        return rule.evaluate(classes);
+    }
+
+    @Override
+    public ArchRule because(String reason) {
+        return new WholeApplicationRule(rule.because(reason));
+    }
+
+    @Override
+    public ArchRule allowEmptyShould(boolean allowEmptyShould) {
+        return new WholeApplicationRule(rule.allowEmptyShould(allowEmptyShould));
+    }
+
+    @Override
+    public ArchRule as(String newDescription) {
+        return new WholeApplicationRule(rule.as(newDescription));
+    }
+
+    @Override
+    public String getDescription() {
+        return rule.getDescription();
+    }
+
+    @Override
+    public String toString() {
+        return rule.toString();
+    }
+}
@@ -19,13 +19,14 @@
  */
 package de.rweisleder.archunit.spring.retry;
 
-import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
 import de.rweisleder.archunit.spring.framework.SpringProxyRules;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex.Feature;
+import de.rweisleder.archunit.spring.internal.WholeApplicationRule;
 
 import java.util.Collection;
 
@@ -38,7 +39,7 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
 import static de.rweisleder.archunit.spring.framework.SpringProxyRules.beProxyable;
 import static de.rweisleder.archunit.spring.framework.SpringProxyRules.notBeCalledFromWithinTheSameClass;
-import static de.rweisleder.archunit.spring.internal.InternalUtils.availableMethods;
+import static de.rweisleder.archunit.spring.internal.InternalUtils.availableMethodsAnnotatedWith;
 
 /**
  * Collection of {@link ArchRule rules} that can be used to check the usage of Spring's declarative retry support.
@@ -61,7 +62,7 @@ public final class SpringRetryRules {
      *
      * @see SpringProxyRules#beProxyable()
      */
-    public static final ArchRule RetryableMethodsAreProxyable = all(availableMethods())
+    public static final ArchRule RetryableMethodsAreProxyable = all(availableMethodsAnnotatedWith("org.springframework.retry.annotation.Retryable"))
             .that(are(springAnnotatedWith("org.springframework.retry.annotation.Retryable")))
             .should(beProxyable())
             .allowEmptyShould(true);
@@ -91,7 +92,7 @@ public final class SpringRetryRules {
      * @see SpringProxyRules#notBeCalledFromWithinTheSameClass()
      * @see <a href="https://github.com/spring-projects/spring-retry#javaConfigForRetryProxies">Java Configuration for Retry Proxies</a>
      */
-    public static final ArchRule RetryableMethodsNotCalledFromSameClass = all(availableMethods())
+    public static final ArchRule RetryableMethodsNotCalledFromSameClass = all(availableMethodsAnnotatedWith("org.springframework.retry.annotation.Retryable"))
             .that(are(springAnnotatedWith("org.springframework.retry.annotation.Retryable")))
             .should(notBeCalledFromWithinTheSameClass())
             .allowEmptyShould(true);
@@ -103,10 +104,10 @@ public final class SpringRetryRules {
      *
      * @see #haveEnableRetryPresentIfRetryableMethodsExist()
      */
-    public static final ArchRule EnableRetryIsPresentIfRetryableMethodsExist = classes()
+    public static final ArchRule EnableRetryIsPresentIfRetryableMethodsExist = WholeApplicationRule.of(classes()
             .should(haveEnableRetryPresentIfRetryableMethodsExist())
             .as("application should contain a class annotated with @EnableRetry if any method is annotated with @Retryable")
-            .allowEmptyShould(true);
+            .allowEmptyShould(true));
 
     /**
      * A condition that checks that the given classes contain a class annotated with {@code @EnableRetry} if any class
@@ -118,29 +119,25 @@ public final class SpringRetryRules {
     public static ArchCondition<JavaClass> haveEnableRetryPresentIfRetryableMethodsExist() {
         return new ArchCondition<JavaClass>("have @EnableRetry present if methods annotated with @Retryable exist") {
 
-            private final DescribedPredicate<JavaMethod> annotatedWithRetryable = springAnnotatedWith("org.springframework.retry.annotation.Retryable").forSubtype();
-            private final DescribedPredicate<JavaClass> annotatedWithEnableRetry = springAnnotatedWith("org.springframework.retry.annotation.EnableRetry").forSubtype();
+            private final SpringFeatureIndex springFeatureIndex = SpringFeatureIndex.get();
 
-            private boolean classesHaveMethodAnnotatedWithRetryable = false;
-            private boolean hasClassAnnotatedWithEnableRetry = false;
+            private volatile boolean classesHaveMethodAnnotatedWithRetryable = false;
+            private volatile boolean hasClassAnnotatedWithEnableRetry = false;
 
             @Override
             public void init(Collection<JavaClass> javaClasses) {
-                classesHaveMethodAnnotatedWithRetryable = javaClasses.stream()
-                        .flatMap(javaClass -> javaClass.getAllMethods().stream())
-                        .anyMatch(annotatedWithRetryable);
+                classesHaveMethodAnnotatedWithRetryable = springFeatureIndex.usesFeature(javaClasses, Feature.RETRY);
                 hasClassAnnotatedWithEnableRetry = false;
             }
 
             @Override
             public void check(JavaClass javaClass, ConditionEvents events) {
                 if (classesHaveMethodAnnotatedWithRetryable) {
-                    boolean classAnnotatedWithEnableRetry = annotatedWithEnableRetry.test(javaClass);
+                    boolean classAnnotatedWithEnableRetry = springFeatureIndex.enablesFeature(javaClass, Feature.RETRY);
                     if (classAnnotatedWithEnableRetry) {
-                        events.add(satisfied(javaClass, createMessage(javaClass, "is " + annotatedWithEnableRetry.getDescription())));
+                        events.add(satisfied(javaClass, createMessage(javaClass, "is annotated with @EnableRetry")));
+                        hasClassAnnotatedWithEnableRetry = true;
                     }
-
-                    hasClassAnnotatedWithEnableRetry |= classAnnotatedWithEnableRetry;
                 }
             }
 
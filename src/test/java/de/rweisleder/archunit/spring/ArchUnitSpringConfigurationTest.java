@@ -0,0 +1,68 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchUnitSpringConfigurationTest {
+
+    private final ArchUnitSpringConfiguration configuration = ArchUnitSpringConfiguration.get();
+
+    @AfterEach
+    void resetConfiguration() {
+        configuration.reset();
+    }
+
+    @Test
+    void reset_restores_the_default_values() {
+        configuration.setMergedAnnotationsCacheEnabled(false);
+        configuration.setMergedAnnotationsCacheSize(42);
+        configuration.setMetadataReaderCacheSize(42);
+        configuration.setMetadataReaderFactory(new CachingMetadataReaderFactory());
+        configuration.setUseCandidateComponentsIndex(true);
+        configuration.setVerifyCandidateComponentsIndex(true);
+        configuration.addEvaluationListener(new EvaluationMetrics());
+
+        configuration.reset();
+
+        assertThat(configuration.isMergedAnnotationsCacheEnabled()).isTrue();
+        assertThat(configuration.getMergedAnnotationsCacheSize()).isEqualTo(ArchUnitSpringConfiguration.DEFAULT_MERGED_ANNOTATIONS_CACHE_SIZE);
+        assertThat(configuration.getMetadataReaderCacheSize()).isEqualTo(ArchUnitSpringConfiguration.DEFAULT_METADATA_READER_CACHE_SIZE);
+        assertThat(configuration.getMetadataReaderFactory()).isExactlyInstanceOf(SimpleMetadataReaderFactory.class);
+        assertThat(configuration.useCandidateComponentsIndex()).isFalse();
+        assertThat(configuration.verifyCandidateComponentsIndex()).isFalse();
+        assertThat(configuration.getEvaluationListeners()).isEmpty();
+        assertThat(configuration.hasEvaluationListeners()).isFalse();
+    }
+
+    @Test
+    void rejects_a_negative_cache_size() {
+        assertThatThrownBy(() -> configuration.setMergedAnnotationsCacheSize(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> configuration.setMetadataReaderCacheSize(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import static com.tngtech.archunit.base.DescribedPredicate.describe;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EvaluationMetricsTest {
+
+    private final EvaluationMetrics metrics = new EvaluationMetrics();
+
+    @BeforeEach
+    void registerMetrics() {
+        SpringAnnotationPredicates.clearCache();
+        ArchUnitSpringConfiguration.get().addEvaluationListener(metrics);
+    }
+
+    @AfterEach
+    void resetConfiguration() {
+        ArchUnitSpringConfiguration.get().reset();
+    }
+
+    @Test
+    void counts_the_evaluations_per_predicate() {
+        JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+        DescribedPredicate<CanBeAnnotated> predicate = springAnnotatedWith(Component.class);
+        predicate.test(javaClass);
+        predicate.test(javaClass);
+
+        assertThat(metrics.getPredicateEvaluationCounts()).containsEntry(predicate.getDescription(), 2L);
+        assertThat(metrics.getPredicateEvaluationNanos()).containsKey(predicate.getDescription());
+    }
+
+    @Test
+    void counts_resolved_and_cached_merged_annotations() {
+        JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+        DescribedPredicate<CanBeAnnotated> predicate = springAnnotatedWith(describe("@Service", annotations -> annotations.isPresent(Service.class)));
+        predicate.test(javaClass);
+        predicate.test(javaClass);
+
+        assertThat(metrics.getMergedAnnotationsResolutionCount()).isEqualTo(1);
+        assertThat(metrics.getMergedAnnotationsCacheHitCount()).isEqualTo(1);
+        assertThat(metrics.getReflectionFallbackCount()).isZero();
+    }
+
+    @Test
+    void does_not_resolve_merged_annotations_to_check_the_presence_of_annotations_on_fully_imported_classes() {
+        JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+        springAnnotatedWith(Component.class).test(javaClass);
+
+        assertThat(metrics.getMergedAnnotationsResolutionCount()).isZero();
+        assertThat(metrics.getMergedAnnotationsCacheHitCount()).isZero();
+    }
+
+    @Test
+    void reports_the_evaluation_time_of_a_measured_rule() {
+        JavaClasses javaClasses = new ClassFileImporter().importClasses(DemoService.class);
+        ArchRule rule = classes().should().beAnnotatedWith(Component.class);
+
+        assertThatThrownBy(() -> MeasuredArchRule.of(rule).check(javaClasses)).isInstanceOf(AssertionError.class);
+
+        assertThat(metrics.getRuleEvaluationNanos()).containsOnlyKeys(rule.getDescription());
+    }
+
+    @Test
+    void reset_removes_all_counts() {
+        JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+        springAnnotatedWith(Component.class).test(javaClass);
+
+        metrics.reset();
+
+        assertThat(metrics.getPredicateEvaluationCounts()).isEmpty();
+        assertThat(metrics.getMergedAnnotationsResolutionCount()).isZero();
+    }
+
+    @Test
+    void does_not_measure_anything_without_registered_listener() {
+        ArchUnitSpringConfiguration.get().removeEvaluationListener(metrics);
+        JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+        springAnnotatedWith(Component.class).test(javaClass);
+
+        assertThat(metrics.getPredicateEvaluationCounts()).isEmpty();
+    }
+
+    @Service
+    static class DemoService {
+    }
+}
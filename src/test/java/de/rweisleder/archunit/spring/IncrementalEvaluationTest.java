@@ -0,0 +1,155 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import de.rweisleder.archunit.spring.framework.SpringCacheRules;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+
+import java.nio.file.Path;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalEvaluationTest {
+
+    private final JavaClasses classes = new ClassFileImporter().importClasses(
+            BaseService.class, CachingService.class, CachingService.Nested.class, Caller.class, Unrelated.class, CachingConfiguration.class);
+
+    @Test
+    void evaluates_the_changed_classes_and_the_classes_depending_on_them() {
+        IncrementalEvaluation evaluation = IncrementalEvaluation.of(classes, singleton(CachingService.class.getName()));
+
+        assertThat(evaluation.getChangedClasses()).extracting(JavaClass::getName)
+                .containsExactlyInAnyOrder(CachingService.class.getName(), CachingService.Nested.class.getName());
+        assertThat(evaluation.getAffectedClasses()).extracting(JavaClass::getName)
+                .containsExactlyInAnyOrder(BaseService.class.getName(), CachingService.class.getName(),
+                        CachingService.Nested.class.getName(), Caller.class.getName());
+    }
+
+    @Test
+    void evaluates_class_level_rules_only_for_the_affected_classes() {
+        IncrementalEvaluation evaluation = IncrementalEvaluation.of(classes, singleton(Caller.class.getName()));
+
+        EvaluationResult result = evaluation.evaluate(classes().should().haveSimpleNameEndingWith("Service"));
+
+        assertThat(result.getFailureReport().getDetails()).singleElement().asString().contains(Caller.class.getName());
+    }
+
+    @Test
+    void evaluates_application_rules_for_all_classes() {
+        IncrementalEvaluation evaluation = IncrementalEvaluation.of(classes, singleton(CachingService.class.getName()));
+
+        EvaluationResult result = evaluation.evaluate(MeasuredArchRule.of(SpringCacheRules.EnableCachingIsPresentIfCacheableMethodsExist));
+
+        assertThat(result.hasViolation()).isFalse();
+    }
+
+    @Test
+    void evaluates_derived_application_rules_for_all_classes() {
+        IncrementalEvaluation evaluation = IncrementalEvaluation.of(classes, singleton(CachingService.class.getName()));
+
+        EvaluationResult becauseResult = evaluation.evaluate(SpringCacheRules.EnableCachingIsPresentIfCacheableMethodsExist
+                .because("caching must be enabled"));
+        EvaluationResult measuredResult = evaluation.evaluate(MeasuredArchRule.of(SpringCacheRules.EnableCachingIsPresentIfCacheableMethodsExist)
+                .as("measured rule"));
+
+        assertThat(becauseResult.hasViolation()).isFalse();
+        assertThat(measuredResult.hasViolation()).isFalse();
+    }
+
+    @Test
+    void evaluates_custom_application_rules_for_all_classes_on_request() {
+        IncrementalEvaluation evaluation = IncrementalEvaluation.of(classes, singleton(CachingService.class.getName()));
+        ArchRule rule = classes().should(SpringCacheRules.haveEnableCachingPresentIfCacheableMethodsExist());
+
+        EvaluationResult partialResult = evaluation.evaluate(rule);
+        EvaluationResult completeResult = evaluation.evaluateForAllClasses(rule);
+
+        assertThat(partialResult.hasViolation()).isTrue();
+        assertThat(completeResult.hasViolation()).isFalse();
+    }
+
+    @Test
+    void skips_rules_if_no_class_is_affected() {
+        IncrementalEvaluation evaluation = IncrementalEvaluation.of(classes, emptySet());
+
+        EvaluationResult result = evaluation.evaluate(classes().should().haveSimpleNameEndingWith("Service"));
+
+        assertThat(result.hasViolation()).isFalse();
+    }
+
+    @Test
+    void does_not_fail_rules_without_affected_classes_matching_their_predicate() {
+        IncrementalEvaluation evaluation = IncrementalEvaluation.of(classes, singleton(Unrelated.class.getName()));
+
+        EvaluationResult result = evaluation.evaluate(classes().that().haveSimpleNameEndingWith("Service")
+                .should().haveSimpleNameNotContaining("Caller"));
+
+        assertThat(result.hasViolation()).isFalse();
+    }
+
+    @Test
+    void considers_only_classes_with_different_bytecode_as_changed_since_the_baseline(@TempDir Path tempDir) {
+        Path baselineFile = tempDir.resolve("baseline.txt");
+
+        assertThat(IncrementalEvaluation.sinceBaseline(classes, baselineFile).getChangedClasses()).hasSameSizeAs(classes);
+
+        IncrementalEvaluation.saveBaseline(classes, baselineFile);
+
+        assertThat(IncrementalEvaluation.sinceBaseline(classes, baselineFile).getChangedClasses()).isEmpty();
+    }
+
+    static class BaseService {
+    }
+
+    static class CachingService extends BaseService {
+
+        @Cacheable("cached")
+        public String cached() {
+            return "cached";
+        }
+
+        static class Nested {
+        }
+    }
+
+    static class Caller {
+
+        @SuppressWarnings("unused")
+        private CachingService cachingService;
+    }
+
+    static class Unrelated {
+    }
+
+    @EnableCaching
+    static class CachingConfiguration {
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import de.rweisleder.archunit.spring.framework.SpringProxyRules;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
+import static de.rweisleder.archunit.spring.internal.InternalUtils.availableMethods;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelEvaluationTest {
+
+    private final JavaClasses classes = new ClassFileImporter().importClasses(
+            FirstService.class, SecondService.class, ThirdService.class);
+
+    @Test
+    void checks_a_condition_with_the_same_result_as_a_sequential_evaluation() {
+        EvaluationResult sequentialResult = all(availableMethods()).should(SpringProxyRules.beProxyable()).evaluate(classes);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            EvaluationResult parallelResult = ParallelEvaluation.evaluate(availableMethods(), SpringProxyRules.beProxyable(), classes, pool);
+
+            assertThat(parallelResult.hasViolation()).isTrue();
+            assertThat(parallelResult.getFailureReport().getDetails())
+                    .containsExactlyElementsOf(sequentialResult.getFailureReport().getDetails())
+                    .contains("Class <" + FirstService.class.getName() + "> has modifier FINAL in (ParallelEvaluationTest.java:0)");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void checks_a_generated_codebase_with_the_same_result_as_a_sequential_evaluation() throws IOException {
+        try (SyntheticCodebase codebase = SyntheticCodebase.ofSize(300).withHierarchyDepth(3).withCrossPackageSubclasses(true).generate()) {
+            JavaClasses generatedClasses = codebase.importClasses();
+            EvaluationResult sequentialResult = all(availableMethods()).should(SpringProxyRules.beProxyable()).evaluate(generatedClasses);
+
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                EvaluationResult parallelResult = ParallelEvaluation.evaluate(availableMethods(), SpringProxyRules.beProxyable(), generatedClasses, pool);
+
+                assertThat(parallelResult.hasViolation()).isTrue();
+                assertThat(parallelResult.getFailureReport().getDetails())
+                        .containsExactlyElementsOf(sequentialResult.getFailureReport().getDetails());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void returns_the_results_in_the_order_of_the_rules() {
+        ArchRule finalClasses = classes().should().haveModifier(JavaModifier.FINAL);
+        ArchRule proxyableMethods = methods().should(SpringProxyRules.beProxyable());
+
+        List<EvaluationResult> results = ParallelEvaluation.evaluate(asList(finalClasses, proxyableMethods), classes);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getFailureReport().toString()).contains(finalClasses.getDescription());
+        assertThat(results.get(1).getFailureReport().toString()).contains(proxyableMethods.getDescription());
+    }
+
+    @SuppressWarnings("unused")
+    static final class FirstService {
+
+        public void first() {
+        }
+
+        public void second() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class SecondService {
+
+        public final void first() {
+        }
+
+        private void second() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class ThirdService {
+
+        public static void first() {
+        }
+    }
+}
@@ -19,15 +19,46 @@
  */
 package de.rweisleder.archunit.spring;
 
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaConstructor;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Indexed;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static com.tngtech.archunit.base.DescribedPredicate.describe;
 import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWithAllOf;
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWithAnyOf;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SpringAnnotationPredicatesTest {
@@ -64,6 +95,42 @@ class SpringAnnotationPredicatesTest {
         }
     }
 
+    @Nested
+    class Predicate_springAnnotatedWith_with_attribute {
+
+        @AfterEach
+        void resetConfiguration() {
+            ArchUnitSpringConfiguration.get().reset();
+            SpringAnnotationPredicates.clearCache();
+        }
+
+        @Test
+        void provides_a_description() {
+            DescribedPredicate<CanBeAnnotated> predicate = springAnnotatedWith(Controller.class, "value", describe("<name>", value -> !"".equals(value)));
+            assertThat(predicate.getDescription()).isEqualTo("annotated with @Controller(value <name>)");
+        }
+
+        @Test
+        void evaluates_the_merged_attribute_value() {
+            JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+            assertThat(springAnnotatedWith(Service.class, "value", describe("'demo'", "demo"::equals)).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWith("org.springframework.stereotype.Component", "value", describe("'demo'", "demo"::equals)).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWith(Component.class, "value", describe("''", ""::equals)).test(javaClass)).isFalse();
+            assertThat(springAnnotatedWith(Controller.class, "value", describe("'demo'", "demo"::equals)).test(javaClass)).isFalse();
+            assertThat(springAnnotatedWith(Service.class, "unknown", describe("anything", value -> true)).test(javaClass)).isFalse();
+        }
+
+        @Test
+        void evaluates_the_merged_attribute_value_from_bytecode_only() {
+            ArchUnitSpringConfiguration.get().setResolveAnnotationsFromBytecodeOnly(true);
+            JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+            assertThat(springAnnotatedWith(Component.class, "value", describe("'demo'", "demo"::equals)).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWith(Service.class, "value", describe("''", ""::equals)).test(javaClass)).isFalse();
+        }
+    }
+
     @Nested
     class Predicate_springAnnotatedWith_with_DescribedPredicate {
 
@@ -75,4 +142,424 @@ class SpringAnnotationPredicatesTest {
             assertThat(predicate.getDescription()).isEqualTo("annotated with @Controller");
         }
     }
+
+    @Nested
+    class Predicate_springAnnotatedWithAnyOf {
+
+        @Test
+        void provides_a_description() {
+            DescribedPredicate<CanBeAnnotated> predicate = springAnnotatedWithAnyOf(Controller.class, Service.class);
+            assertThat(predicate.getDescription()).isEqualTo("annotated with @Controller or @Service");
+        }
+
+        @Test
+        void matches_elements_with_any_of_the_annotation_types() {
+            JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+            assertThat(springAnnotatedWithAnyOf(Controller.class, Indexed.class).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWithAnyOf("org.springframework.stereotype.Component").test(javaClass)).isTrue();
+            assertThat(springAnnotatedWithAnyOf(Controller.class, Scheduled.class).test(javaClass)).isFalse();
+        }
+
+        @Test
+        void matches_classes_that_were_not_imported() {
+            JavaClass javaClass = importFieldTypeWithoutResolvingIt(DemoServiceClient.class, "service");
+
+            assertThat(javaClass.isFullyImported()).isFalse();
+            assertThat(springAnnotatedWithAnyOf(Controller.class, Service.class).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWithAnyOf(Controller.class, Scheduled.class).test(javaClass)).isFalse();
+        }
+
+        @Test
+        void considers_repeated_annotations_and_their_container() {
+            JavaMethod javaMethod = new ClassFileImporter().importClass(DemoTask.class).getMethod("run");
+
+            assertThat(springAnnotatedWithAnyOf(Controller.class, Scheduled.class).test(javaMethod)).isTrue();
+            assertThat(springAnnotatedWithAnyOf(Schedules.class, Service.class).test(javaMethod)).isTrue();
+        }
+    }
+
+    @Nested
+    class Predicate_springAnnotatedWithAllOf {
+
+        @Test
+        void provides_a_description() {
+            DescribedPredicate<CanBeAnnotated> predicate = springAnnotatedWithAllOf("org.springframework.stereotype.Service", "org.springframework.stereotype.Indexed");
+            assertThat(predicate.getDescription()).isEqualTo("annotated with @Service and @Indexed");
+        }
+
+        @Test
+        void matches_elements_with_all_of_the_annotation_types() {
+            JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+            assertThat(springAnnotatedWithAllOf(Service.class, Component.class, Indexed.class).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWithAllOf(Service.class, Controller.class).test(javaClass)).isFalse();
+        }
+
+        @Test
+        void matches_classes_that_were_not_imported() {
+            JavaClass javaClass = importFieldTypeWithoutResolvingIt(DemoServiceClient.class, "service");
+
+            assertThat(javaClass.isFullyImported()).isFalse();
+            assertThat(springAnnotatedWithAllOf(Service.class, Component.class).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWithAllOf(Service.class, Controller.class).test(javaClass)).isFalse();
+        }
+    }
+
+    @Nested
+    class Cache {
+
+        @AfterEach
+        void resetConfiguration() {
+            ArchUnitSpringConfiguration.get().reset();
+            SpringAnnotationPredicates.clearCache();
+        }
+
+        @Test
+        void evaluates_the_same_with_and_without_cache() {
+            JavaClass javaClass = new ClassFileImporter().importClass(DemoController.class);
+            DescribedPredicate<CanBeAnnotated> controller = springAnnotatedWith(Controller.class);
+            DescribedPredicate<CanBeAnnotated> service = springAnnotatedWith("org.springframework.stereotype.Service");
+
+            assertThat(controller.test(javaClass)).isTrue();
+            assertThat(controller.test(javaClass)).isTrue();
+            assertThat(service.test(javaClass)).isFalse();
+
+            ArchUnitSpringConfiguration.get().setMergedAnnotationsCacheEnabled(false);
+            assertThat(controller.test(javaClass)).isTrue();
+            assertThat(service.test(javaClass)).isFalse();
+        }
+    }
+
+    @Nested
+    class Bytecode_only_resolution {
+
+        @AfterEach
+        void resetConfiguration() {
+            ArchUnitSpringConfiguration.get().reset();
+            SpringAnnotationPredicates.clearCache();
+        }
+
+        @Test
+        void resolves_meta_annotations_and_attribute_aliases() {
+            ArchUnitSpringConfiguration.get().setResolveAnnotationsFromBytecodeOnly(true);
+            JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+            assertThat(springAnnotatedWith(Service.class).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWith("org.springframework.stereotype.Component").test(javaClass)).isTrue();
+            assertThat(springAnnotatedWith(Controller.class).test(javaClass)).isFalse();
+            assertThat(springAnnotatedWith(Component.class, describe("@Component('demo')",
+                    (Component component) -> component.value().equals("demo"))).test(javaClass)).isTrue();
+        }
+    
+        @Test
+        void does_not_load_the_annotated_classes(@TempDir Path tempDir) throws IOException {
+            JavaClass javaClass = UnloadableClasses.compileAndImport(tempDir, "UnloadableService",
+                    "@org.springframework.stereotype.Service(\"demo\") public class UnloadableService {}").get("unloadable.UnloadableService");
+            DescribedPredicate<CanBeAnnotated> componentWithName = springAnnotatedWith(Component.class, describe("@Component('demo')",
+                    (Component component) -> component.value().equals("demo")));
+
+            assertThat(componentWithName.test(javaClass)).as("without bytecode-only resolution").isFalse();
+
+            SpringAnnotationPredicates.clearCache();
+            ArchUnitSpringConfiguration.get().setResolveAnnotationsFromBytecodeOnly(true);
+            assertThat(componentWithName.test(javaClass)).as("with bytecode-only resolution").isTrue();
+        }
+
+        @Test
+        void ignores_annotations_that_are_not_retained_at_runtime() {
+            ArchUnitSpringConfiguration.get().setResolveAnnotationsFromBytecodeOnly(true);
+            JavaClass javaClass = new ClassFileImporter().importClass(DemoClassRetainedComponent.class);
+
+            assertThat(springAnnotatedWith(describe("@Component", (MergedAnnotations annotations) -> annotations.isPresent(Component.class)))
+                    .test(javaClass)).isFalse();
+        }
+    }
+
+    @Nested
+    class Fallback_for_classes_that_cannot_be_reflected {
+
+        @TempDir
+        Path tempDir;
+
+        private JavaClass javaClass;
+
+        @BeforeEach
+        void importUnloadableClass() throws IOException {
+            javaClass = UnloadableClasses.compileAndImport(tempDir, "UnloadableBean", String.join("\n",
+                    "public class UnloadableBean implements Comparable<UnloadableBean> {",
+                    "    @org.springframework.beans.factory.annotation.Qualifier(\"field\") String field;",
+                    "    @org.springframework.context.annotation.Lazy(false)",
+                    "    public UnloadableBean(@org.springframework.beans.factory.annotation.Qualifier(\"constructorParameter\") String value) {}",
+                    "    @org.springframework.scheduling.annotation.Async(\"executor\")",
+                    "    public void run(@org.springframework.beans.factory.annotation.Qualifier(\"methodParameter\") String value) {}",
+                    "    @org.springframework.scheduling.annotation.Async(\"comparator\")",
+                    "    public int compareTo(UnloadableBean other) { return 0; }",
+                    "}")).get("unloadable.UnloadableBean");
+        }
+
+        @AfterEach
+        void resetConfiguration() {
+            ArchUnitSpringConfiguration.get().reset();
+            SpringAnnotationPredicates.clearCache();
+        }
+
+        @Test
+        void resolves_the_annotations_of_fields() {
+            JavaField field = javaClass.getField("field");
+
+            assertThat(springAnnotatedWith(Qualifier.class, "value", describe("'field'", "field"::equals)).test(field)).isTrue();
+        }
+
+        @Test
+        void resolves_the_annotations_of_constructors_and_their_parameters() {
+            JavaConstructor constructor = javaClass.getConstructor(String.class);
+
+            assertThat(springAnnotatedWith(Lazy.class, "value", describe("false", Boolean.FALSE::equals)).test(constructor)).isTrue();
+            assertThat(springAnnotatedWith(Qualifier.class, "value", describe("'constructorParameter'", "constructorParameter"::equals))
+                    .test(constructor.getParameters().get(0))).isTrue();
+        }
+
+        @Test
+        void resolves_the_annotations_of_methods_without_class_metadata_and_their_parameters() {
+            JavaMethod method = javaClass.getMethod("run", String.class);
+
+            assertThat(springAnnotatedWith(Async.class, "value", describe("'executor'", "executor"::equals)).test(method)).isTrue();
+            assertThat(springAnnotatedWith(Qualifier.class, "value", describe("'methodParameter'", "methodParameter"::equals))
+                    .test(method.getParameters().get(0))).isTrue();
+        }
+
+        @Test
+        void resolves_the_annotations_of_methods_not_contained_in_the_class_metadata() throws IOException {
+            ArchUnitSpringConfiguration.get().setMetadataReaderFactory(new SimpleMetadataReaderFactory(
+                    new URLClassLoader(new URL[]{tempDir.resolve("classes").toUri().toURL()}, getClass().getClassLoader())));
+            SpringAnnotationPredicates.clearCache();
+            // the compiler copies the annotations to the bridge method, but Spring's class metadata skips bridge methods
+            JavaMethod bridgeMethod = javaClass.getMethod("compareTo", Object.class);
+
+            assertThat(springAnnotatedWith(Async.class, "value", describe("'comparator'", "comparator"::equals)).test(bridgeMethod)).isTrue();
+            assertThat(springAnnotatedWith(Async.class, "value", describe("'executor'", "executor"::equals))
+                    .test(javaClass.getMethod("run", String.class))).isTrue();
+        }
+
+        @Test
+        void does_not_match_absent_annotations() {
+            JavaMethod method = javaClass.getMethod("run", String.class);
+
+            assertThat(springAnnotatedWith(Qualifier.class, "value", describe("'field'", "field"::equals)).test(method)).isFalse();
+            assertThat(springAnnotatedWith(Lazy.class, "value", describe("false", Boolean.FALSE::equals)).test(javaClass.getField("field"))).isFalse();
+        }
+    }
+
+    @Nested
+    class Reflection_failure_cache {
+
+        @TempDir
+        Path tempDir;
+
+        private JavaClass javaClass;
+
+        private final List<String> loadAttempts = new CopyOnWriteArrayList<>();
+
+        private ClassLoader originalContextClassLoader;
+
+        @BeforeEach
+        void importUnloadableClassAndCountLoadAttempts() throws IOException {
+            javaClass = UnloadableClasses.compileAndImport(tempDir, "UnloadableService", String.join("\n",
+                    "@org.springframework.stereotype.Service(\"service\")",
+                    "public class UnloadableService {",
+                    "    @org.springframework.beans.factory.annotation.Qualifier(\"field\") String field;",
+                    "    @org.springframework.scheduling.annotation.Async(\"executor\") public void run() {}",
+                    "}")).get("unloadable.UnloadableService");
+            ArchUnitSpringConfiguration.get().setMergedAnnotationsCacheEnabled(false);
+            ArchUnitSpringConfiguration.get().setMetadataReaderFactory(new SimpleMetadataReaderFactory(
+                    new URLClassLoader(new URL[]{tempDir.resolve("classes").toUri().toURL()}, getClass().getClassLoader())));
+            SpringAnnotationPredicates.clearCache();
+
+            originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+            Thread.currentThread().setContextClassLoader(new ClassLoader(originalContextClassLoader) {
+                @Override
+                protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                    if (name.startsWith("unloadable.")) {
+                        loadAttempts.add(name);
+                    }
+                    return super.loadClass(name, resolve);
+                }
+            });
+        }
+
+        @AfterEach
+        void resetConfiguration() {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+            ArchUnitSpringConfiguration.get().reset();
+            SpringAnnotationPredicates.clearCache();
+        }
+
+        @Test
+        void tries_to_load_a_failing_class_only_once() {
+            DescribedPredicate<CanBeAnnotated> predicate = springAnnotatedWith(Service.class, "value", describe("'service'", "service"::equals));
+
+            assertThat(predicate.test(javaClass)).isTrue();
+            assertThat(predicate.test(javaClass)).isTrue();
+
+            assertThat(loadAttempts).containsExactly("unloadable.UnloadableService");
+        }
+
+        @Test
+        void marks_the_owning_class_as_failed_if_it_cannot_be_loaded_for_a_member() {
+            JavaMethod method = javaClass.getMethod("run");
+
+            assertThat(springAnnotatedWith(Async.class, "value", describe("'executor'", "executor"::equals)).test(method)).isTrue();
+            assertThat(loadAttempts).containsExactly("unloadable.UnloadableService");
+
+            assertThat(springAnnotatedWith(Qualifier.class, "value", describe("'field'", "field"::equals)).test(javaClass.getField("field"))).isTrue();
+            assertThat(springAnnotatedWith(Service.class, "value", describe("'service'", "service"::equals)).test(javaClass)).isTrue();
+            assertThat(loadAttempts).containsExactly("unloadable.UnloadableService");
+        }
+
+        @Test
+        void keeps_loading_the_other_elements_of_a_class_if_only_a_member_fails() throws IOException {
+            Path directory = Files.createDirectories(tempDir.resolve("member"));
+            JavaClass ownerClass = UnloadableClasses.compileAndImport(directory, "ServiceWithMissingDependency", String.join("\n",
+                    "@org.springframework.stereotype.Service(\"service\")",
+                    "public class ServiceWithMissingDependency {",
+                    "    @org.springframework.beans.factory.annotation.Qualifier(\"field\") String field;",
+                    "    @org.springframework.scheduling.annotation.Async(\"executor\") public void run(MissingDependency dependency) {}",
+                    "}",
+                    "class MissingDependency {}")).get("unloadable.ServiceWithMissingDependency");
+            Files.delete(directory.resolve("classes").resolve("unloadable").resolve("MissingDependency.class"));
+            Thread.currentThread().setContextClassLoader(
+                    new URLClassLoader(new URL[]{directory.resolve("classes").toUri().toURL()}, originalContextClassLoader));
+            List<CanBeAnnotated> fallbacks = new CopyOnWriteArrayList<>();
+            ArchUnitSpringConfiguration.get().addEvaluationListener(new EvaluationListener() {
+                @Override
+                public void reflectionFallback(CanBeAnnotated annotated) {
+                    fallbacks.add(annotated);
+                }
+            });
+
+            JavaMethod method = ownerClass.getMethod("run", "unloadable.MissingDependency");
+            assertThat(springAnnotatedWith(Async.class, "value", describe("'executor'", "executor"::equals)).test(method)).isTrue();
+            assertThat(springAnnotatedWith(Qualifier.class, "value", describe("'field'", "field"::equals)).test(ownerClass.getField("field"))).isTrue();
+            assertThat(springAnnotatedWith(Service.class, "value", describe("'service'", "service"::equals)).test(ownerClass)).isTrue();
+
+            assertThat(fallbacks).containsExactly(method);
+        }
+
+        @Test
+        void tries_to_load_the_class_again_after_clearing_the_cache() {
+            DescribedPredicate<CanBeAnnotated> predicate = springAnnotatedWith(Service.class, "value", describe("'service'", "service"::equals));
+
+            predicate.test(javaClass);
+            SpringAnnotationPredicates.clearCache();
+            predicate.test(javaClass);
+
+            assertThat(loadAttempts).hasSize(2);
+        }
+    }
+
+    @Nested
+    class Metadata_reader_cache {
+
+        @AfterEach
+        void resetConfiguration() {
+            ArchUnitSpringConfiguration.get().reset();
+            SpringAnnotationPredicates.clearCache();
+        }
+
+        @Test
+        void reads_the_metadata_of_classes_that_cannot_be_reflected_once(@TempDir Path tempDir) throws IOException {
+            JavaClasses classes = UnloadableClasses.compileAndImport(tempDir, "UnloadableController",
+                    "@org.springframework.stereotype.Controller(\"demo\") public class UnloadableController {}");
+            JavaClass javaClass = classes.get("unloadable.UnloadableController");
+            ArchUnitSpringConfiguration.get().setMetadataReaderFactory(new SimpleMetadataReaderFactory(
+                    new URLClassLoader(new URL[]{tempDir.resolve("classes").toUri().toURL()}, getClass().getClassLoader())));
+            SpringAnnotationPredicates.clearCache();
+
+            assertThat(springAnnotatedWith(Controller.class, "value", describe("'demo'", "demo"::equals)).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWith(Component.class, "value", describe("'demo'", "demo"::equals)).test(javaClass)).isTrue();
+            CacheStatistics statistics = SpringAnnotationPredicates.getMetadataReaderCacheStatistics();
+            assertThat(statistics.getMissCount()).isEqualTo(1);
+            assertThat(statistics.getSize()).isEqualTo(1);
+
+            SpringAnnotationPredicates.clearCache(classes);
+            assertThat(SpringAnnotationPredicates.getMetadataReaderCacheStatistics().getSize()).isZero();
+        }
+    }
+
+    @Nested
+    class Meta_annotation_index {
+
+        @Test
+        void considers_meta_annotations() {
+            JavaClass javaClass = new ClassFileImporter().importClass(DemoService.class);
+
+            assertThat(springAnnotatedWith("org.springframework.stereotype.Component").test(javaClass)).isTrue();
+            assertThat(springAnnotatedWith(Indexed.class).test(javaClass)).isTrue();
+            assertThat(springAnnotatedWith(Controller.class).test(javaClass)).isFalse();
+        }
+
+        @Test
+        void considers_repeated_annotations_and_their_container() {
+            JavaMethod javaMethod = new ClassFileImporter().importClass(DemoTask.class).getMethod("run");
+
+            assertThat(springAnnotatedWith(Scheduled.class).test(javaMethod)).isTrue();
+            assertThat(springAnnotatedWith(Schedules.class).test(javaMethod)).isTrue();
+        }
+
+        @Test
+        void considers_only_the_container_of_repeated_annotations_when_resolving_from_bytecode_only() {
+            ArchUnitSpringConfiguration.get().setResolveAnnotationsFromBytecodeOnly(true);
+            try {
+                JavaMethod javaMethod = new ClassFileImporter().importClass(DemoTask.class).getMethod("run");
+
+                assertThat(springAnnotatedWith(Scheduled.class).test(javaMethod)).isFalse();
+                assertThat(springAnnotatedWithAnyOf(Scheduled.class, Async.class).test(javaMethod)).isFalse();
+                assertThat(springAnnotatedWith(Schedules.class).test(javaMethod)).isTrue();
+                assertThat(springAnnotatedWith(describe("@Scheduled", (MergedAnnotations annotations) -> annotations.isPresent(Scheduled.class)))
+                        .test(javaMethod)).isFalse();
+            } finally {
+                ArchUnitSpringConfiguration.get().reset();
+            }
+        }
+    }
+
+    private static JavaClass importFieldTypeWithoutResolvingIt(Class<?> owner, String fieldName) {
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(false);
+        try {
+            return new ClassFileImporter().importClass(owner).getField(fieldName).getRawType();
+        } finally {
+            ArchConfiguration.get().reset();
+        }
+    }
+
+    @Controller
+    static class DemoController {
+    }
+
+    static class DemoTask {
+
+        @Scheduled(fixedRate = 1)
+        @Scheduled(fixedRate = 2)
+        void run() {
+        }
+    }
+
+    @Service("demo")
+    static class DemoService {
+    }
+
+    static class DemoServiceClient {
+
+        DemoService service;
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @Component
+    @interface ClassRetainedComponent {
+    }
+
+    @ClassRetainedComponent
+    static class DemoClassRetainedComponent {
+    }
 }
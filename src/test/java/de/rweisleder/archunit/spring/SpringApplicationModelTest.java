@@ -0,0 +1,98 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringApplicationModelTest {
+
+    private final JavaClasses classes = new ClassFileImporter().importClasses(
+            DemoController.class, DemoService.class, DemoRepository.class, DemoConfiguration.class, DemoValue.class);
+
+    @Test
+    void is_created_once_per_import() {
+        assertThat(SpringApplicationModel.of(classes)).isSameAs(SpringApplicationModel.of(classes));
+    }
+
+    @Test
+    void classifies_classes_by_stereotype() {
+        SpringApplicationModel model = SpringApplicationModel.of(classes);
+
+        assertThat(model.getClasses(Stereotype.CONTROLLER)).extracting(JavaClass::getSimpleName).containsExactly("DemoController");
+        assertThat(model.getClasses(Stereotype.SERVICE)).extracting(JavaClass::getSimpleName).containsExactly("DemoService");
+        assertThat(model.getClasses(Stereotype.REPOSITORY)).extracting(JavaClass::getSimpleName).containsExactly("DemoRepository");
+        assertThat(model.getClasses(Stereotype.CONFIGURATION)).extracting(JavaClass::getSimpleName).containsExactly("DemoConfiguration");
+        assertThat(model.getClasses(Stereotype.COMPONENT)).hasSize(4);
+        assertThat(model.getStereotypes(classes.get(DemoValue.class))).isEmpty();
+    }
+
+    @Test
+    void looks_up_classes_by_annotation_and_package() {
+        SpringApplicationModel model = SpringApplicationModel.of(classes);
+
+        assertThat(model.getClassesAnnotatedWith("org.springframework.stereotype.Indexed")).hasSize(4);
+        assertThat(model.getClassesInPackage(getClass().getPackage().getName())).hasSize(5);
+        assertThat(model.getClassesInPackage("com.example")).isEmpty();
+    }
+
+    @Test
+    void finds_methods_with_proxy_based_advice() {
+        SpringApplicationModel model = SpringApplicationModel.of(classes);
+
+        assertThat(model.getMethodsWithProxyBasedAdvice()).extracting(JavaMethod::getName).containsExactly("findBook");
+    }
+
+    @Controller
+    static class DemoController {
+    }
+
+    @Service
+    @SuppressWarnings("unused")
+    static class DemoService {
+
+        @Cacheable("books")
+        public Object findBook(String isbn) {
+            return null;
+        }
+    }
+
+    @Repository
+    static class DemoRepository {
+    }
+
+    @Configuration
+    static class DemoConfiguration {
+    }
+
+    static class DemoValue {
+    }
+}
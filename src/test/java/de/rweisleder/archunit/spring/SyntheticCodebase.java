@@ -0,0 +1,351 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+import static org.springframework.asm.Opcodes.ACC_FINAL;
+import static org.springframework.asm.Opcodes.ACC_PROTECTED;
+import static org.springframework.asm.Opcodes.ACC_PUBLIC;
+import static org.springframework.asm.Opcodes.ACC_SUPER;
+import static org.springframework.asm.Opcodes.ALOAD;
+import static org.springframework.asm.Opcodes.INVOKESPECIAL;
+import static org.springframework.asm.Opcodes.INVOKEVIRTUAL;
+import static org.springframework.asm.Opcodes.RETURN;
+import static org.springframework.asm.Opcodes.V1_8;
+
+/**
+ * A synthetic Spring application with a configurable number of classes, generated as bytecode into a temporary jar file.
+ * <p>
+ * The application consists of an application class in the root package that enables all Spring features,
+ * and of services, controllers, repositories and configuration classes, with methods annotated with
+ * {@code @Async}, {@code @Cacheable}, {@code @Retryable} and {@code @Scheduled}.
+ * Optionally, the methods are overloaded and the classes form class hierarchies, whose subclasses may reside
+ * in different packages than their superclasses.
+ * <p>
+ * As an example:
+ * <pre>{@code
+ * try (SyntheticCodebase codebase = SyntheticCodebase.ofSize(10_000).withHierarchyDepth(5).generate()) {
+ *     JavaClasses classes = codebase.importClasses();
+ *     // ...
+ * }
+ * }</pre>
+ */
+public final class SyntheticCodebase implements AutoCloseable {
+
+    static final String ROOT_PACKAGE = "com.example.synthetic";
+
+    private static final String[] STEREOTYPES = {
+            "org.springframework.stereotype.Service",
+            "org.springframework.web.bind.annotation.RestController",
+            "org.springframework.stereotype.Repository",
+            "org.springframework.context.annotation.Configuration",
+    };
+
+    private static final String[] PARAMETER_TYPES = {"I", "Ljava/lang/String;", "J"};
+
+    private final Path jarFile;
+    private final int classCount;
+    private final URLClassLoader classLoader;
+
+    private SyntheticCodebase(Path jarFile, int classCount) {
+        this.jarFile = jarFile;
+        this.classCount = classCount;
+        this.classLoader = new URLClassLoader(new URL[]{toUrl(jarFile)}, SyntheticCodebase.class.getClassLoader());
+    }
+
+    /**
+     * Returns a generator for a synthetic application with the given number of component classes.
+     */
+    public static Generator ofSize(int classCount) {
+        return new Generator(classCount);
+    }
+
+    /**
+     * Imports the generated classes.
+     */
+    public JavaClasses importClasses() {
+        try (JarFile jar = new JarFile(jarFile.toFile())) {
+            return new ClassFileImporter().importJar(jar);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a class loader that can load the generated classes, e.g. to be used as the context class loader.
+     */
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Returns the number of generated component classes, excluding the application class.
+     */
+    public int getClassCount() {
+        return classCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        classLoader.close();
+        Files.deleteIfExists(jarFile);
+    }
+
+    private static URL toUrl(Path path) {
+        try {
+            return path.toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Configures the shape of a {@link SyntheticCodebase}.
+     */
+    public static final class Generator {
+
+        private final int classCount;
+        private int classesPerPackage = 100;
+        private int methodsPerClass = 10;
+        private int overloadsPerMethod = 1;
+        private int hierarchyDepth = 1;
+        private boolean crossPackageSubclasses = false;
+
+        private Generator(int classCount) {
+            if (classCount < 0) {
+                throw new IllegalArgumentException("classCount must not be negative");
+            }
+            this.classCount = classCount;
+        }
+
+        /**
+         * Sets the number of component classes per package. Defaults to 100.
+         */
+        public Generator withClassesPerPackage(int classesPerPackage) {
+            if (classesPerPackage < 1) {
+                throw new IllegalArgumentException("classesPerPackage must be positive");
+            }
+            this.classesPerPackage = classesPerPackage;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct method names per class.
+         * The methods are annotated in turn with {@code @Async}, {@code @Cacheable}, {@code @Retryable},
+         * {@code @Scheduled} and no annotation. Defaults to 10.
+         */
+        public Generator withMethodsPerClass(int methodsPerClass) {
+            if (methodsPerClass < 0) {
+                throw new IllegalArgumentException("methodsPerClass must not be negative");
+            }
+            this.methodsPerClass = methodsPerClass;
+            return this;
+        }
+
+        /**
+         * Sets the number of methods with the same name but different parameters. Defaults to 1, i.e. no overloads.
+         */
+        public Generator withOverloadsPerMethod(int overloadsPerMethod) {
+            if (overloadsPerMethod < 1) {
+                throw new IllegalArgumentException("overloadsPerMethod must be positive");
+            }
+            this.overloadsPerMethod = overloadsPerMethod;
+            return this;
+        }
+
+        /**
+         * Sets the number of classes per class hierarchy, where each class extends its predecessor.
+         * Defaults to 1, i.e. all component classes directly extend {@link Object}.
+         */
+        public Generator withHierarchyDepth(int hierarchyDepth) {
+            if (hierarchyDepth < 1) {
+                throw new IllegalArgumentException("hierarchyDepth must be positive");
+            }
+            this.hierarchyDepth = hierarchyDepth;
+            return this;
+        }
+
+        /**
+         * Sets whether each level of a class hierarchy resides in its own package. Defaults to {@code false}.
+         */
+        public Generator withCrossPackageSubclasses(boolean crossPackageSubclasses) {
+            this.crossPackageSubclasses = crossPackageSubclasses;
+            return this;
+        }
+
+        /**
+         * Generates the bytecode of the synthetic application into a temporary jar file.
+         */
+        public SyntheticCodebase generate() {
+            try {
+                Path jarFile = Files.createTempFile("synthetic-codebase", ".jar");
+                try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+                    writeClass(jar, ROOT_PACKAGE + ".Application", applicationClass());
+                    for (int i = 0; i < classCount; i++) {
+                        writeClass(jar, componentClassName(i), componentClass(i));
+                    }
+                }
+                return new SyntheticCodebase(jarFile, classCount);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private String componentClassName(int index) {
+            int level = index % hierarchyDepth;
+            int hierarchyRoot = index - level;
+            String packageName = ROOT_PACKAGE + ".module" + (hierarchyRoot / classesPerPackage);
+            if (crossPackageSubclasses) {
+                packageName += ".level" + level;
+            }
+            return packageName + ".Component" + index;
+        }
+
+        private byte[] applicationClass() {
+            ClassWriter classWriter = createClass(ROOT_PACKAGE + ".Application", "java.lang.Object");
+            visitAnnotation(classWriter, "org.springframework.boot.autoconfigure.SpringBootApplication");
+            visitAnnotation(classWriter, "org.springframework.scheduling.annotation.EnableAsync");
+            visitAnnotation(classWriter, "org.springframework.cache.annotation.EnableCaching");
+            visitAnnotation(classWriter, "org.springframework.retry.annotation.EnableRetry");
+            visitAnnotation(classWriter, "org.springframework.scheduling.annotation.EnableScheduling");
+            classWriter.visitEnd();
+            return classWriter.toByteArray();
+        }
+
+        private byte[] componentClass(int index) {
+            int level = index % hierarchyDepth;
+            String className = componentClassName(index);
+            String superclassName = level > 0 ? componentClassName(index - 1) : "java.lang.Object";
+
+            ClassWriter classWriter = createClass(className, superclassName);
+            visitAnnotation(classWriter, STEREOTYPES[(index - level) / hierarchyDepth % STEREOTYPES.length]);
+
+            for (int j = 0; j < methodsPerClass; j++) {
+                for (int k = 0; k < overloadsPerMethod; k++) {
+                    MethodVisitor method = classWriter.visitMethod(ACC_PUBLIC, "method" + j, overloadDescriptor(k), null, null);
+                    visitMethodAnnotation(method, j, k);
+                    method.visitCode();
+                    if (j == methodsPerClass - 1 && k == 0 && methodsPerClass > 1) {
+                        // a call from within the same class to the @Cacheable method
+                        method.visitVarInsn(ALOAD, 0);
+                        method.visitMethodInsn(INVOKEVIRTUAL, internalName(className), "method1", "()V", false);
+                    }
+                    method.visitInsn(RETURN);
+                    method.visitMaxs(0, 0);
+                    method.visitEnd();
+                }
+            }
+
+            MethodVisitor finalMethod = classWriter.visitMethod(ACC_PROTECTED | ACC_FINAL, "internal" + index, "()V", null, null);
+            finalMethod.visitCode();
+            finalMethod.visitInsn(RETURN);
+            finalMethod.visitMaxs(0, 0);
+            finalMethod.visitEnd();
+
+            classWriter.visitEnd();
+            return classWriter.toByteArray();
+        }
+
+        private static String overloadDescriptor(int overload) {
+            StringBuilder descriptor = new StringBuilder("(");
+            for (int i = 0; i < overload; i++) {
+                descriptor.append(PARAMETER_TYPES[i % PARAMETER_TYPES.length]);
+            }
+            return descriptor.append(")V").toString();
+        }
+
+        private static void visitMethodAnnotation(MethodVisitor method, int methodIndex, int overload) {
+            switch (methodIndex % 5) {
+                case 0:
+                    method.visitAnnotation(descriptor("org.springframework.scheduling.annotation.Async"), true).visitEnd();
+                    break;
+                case 1:
+                    AnnotationVisitor cacheable = method.visitAnnotation(descriptor("org.springframework.cache.annotation.Cacheable"), true);
+                    AnnotationVisitor cacheNames = cacheable.visitArray("value");
+                    cacheNames.visit(null, "cache");
+                    cacheNames.visitEnd();
+                    cacheable.visitEnd();
+                    break;
+                case 2:
+                    method.visitAnnotation(descriptor("org.springframework.retry.annotation.Retryable"), true).visitEnd();
+                    break;
+                case 3:
+                    if (overload == 0) {
+                        // Spring only supports scheduled methods without parameters
+                        AnnotationVisitor scheduled = method.visitAnnotation(descriptor("org.springframework.scheduling.annotation.Scheduled"), true);
+                        scheduled.visit("fixedRate", 1000L);
+                        scheduled.visitEnd();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private static ClassWriter createClass(String className, String superclassName) {
+            ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+            classWriter.visit(V1_8, ACC_PUBLIC | ACC_SUPER, internalName(className), null, internalName(superclassName), null);
+
+            MethodVisitor constructor = classWriter.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+            constructor.visitCode();
+            constructor.visitVarInsn(ALOAD, 0);
+            constructor.visitMethodInsn(INVOKESPECIAL, internalName(superclassName), "<init>", "()V", false);
+            constructor.visitInsn(RETURN);
+            constructor.visitMaxs(0, 0);
+            constructor.visitEnd();
+
+            return classWriter;
+        }
+
+        private static void visitAnnotation(ClassWriter classWriter, String annotationTypeName) {
+            classWriter.visitAnnotation(descriptor(annotationTypeName), true).visitEnd();
+        }
+
+        private static void writeClass(JarOutputStream jar, String className, byte[] bytecode) throws IOException {
+            jar.putNextEntry(new JarEntry(internalName(className) + ".class"));
+            jar.write(bytecode);
+            jar.closeEntry();
+        }
+
+        private static String internalName(String className) {
+            return className.replace('.', '/');
+        }
+
+        private static String descriptor(String className) {
+            return "L" + internalName(className) + ";";
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compiles classes into a directory that is not on the classpath, so that the imported classes cannot be loaded
+ * via reflection, like classes with missing dependencies.
+ */
+public final class UnloadableClasses {
+
+    private UnloadableClasses() {
+    }
+
+    /**
+     * Compiles the given source of a class in the package {@code unloadable} and imports the resulting classes.
+     */
+    public static JavaClasses compileAndImport(Path directory, String simpleClassName, String source) throws IOException {
+        Path sourceFile = directory.resolve("src").resolve("unloadable").resolve(simpleClassName + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, ("package unloadable;\n" + source).getBytes(UTF_8));
+
+        Path classesDirectory = Files.createDirectories(directory.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int result = compiler.run(null, output, output,
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classesDirectory.toString(),
+                "-parameters",
+                sourceFile.toString());
+        if (result != 0) {
+            throw new IllegalStateException("Could not compile " + simpleClassName + ": " + new String(output.toByteArray(), UTF_8));
+        }
+
+        return new ClassFileImporter().importPath(classesDirectory);
+    }
+}
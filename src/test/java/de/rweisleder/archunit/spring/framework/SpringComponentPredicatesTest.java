@@ -21,9 +21,15 @@ package de.rweisleder.archunit.spring.framework;
 
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype.CONFIGURATION;
+import static de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype.CONTROLLER;
+import static de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype.SERVICE;
+import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.hasAnyStereotype;
 import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.springComponent;
 import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.springConfiguration;
 import static de.rweisleder.archunit.spring.framework.SpringComponentPredicates.springController;
@@ -82,4 +88,40 @@ class SpringComponentPredicatesTest {
             assertThat(predicate.getDescription()).isEqualTo("Spring configuration");
         }
     }
+
+    @Nested
+    class Predicate_hasAnyStereotype {
+
+        @Test
+        void provides_the_same_description_as_the_combined_predicates() {
+            DescribedPredicate<JavaClass> predicate = hasAnyStereotype(CONTROLLER, SERVICE, CONFIGURATION);
+            DescribedPredicate<JavaClass> combined = springController().or(springService()).or(springConfiguration());
+            assertThat(predicate.getDescription()).isEqualTo(combined.getDescription());
+        }
+
+        @Test
+        void accepts_classes_with_any_of_the_given_stereotypes() {
+            JavaClasses classes = new ClassFileImporter().importClasses(
+                    SpringComponentPredicatesTest.Controller.class,
+                    SpringComponentPredicatesTest.Service.class,
+                    SpringComponentPredicatesTest.Repository.class);
+            DescribedPredicate<JavaClass> predicate = hasAnyStereotype(CONTROLLER, SERVICE);
+
+            assertThat(predicate.test(classes.get(SpringComponentPredicatesTest.Controller.class))).isTrue();
+            assertThat(predicate.test(classes.get(SpringComponentPredicatesTest.Service.class))).isTrue();
+            assertThat(predicate.test(classes.get(SpringComponentPredicatesTest.Repository.class))).isFalse();
+        }
+    }
+
+    @org.springframework.stereotype.Controller
+    static class Controller {
+    }
+
+    @org.springframework.stereotype.Service
+    static class Service {
+    }
+
+    @org.springframework.stereotype.Repository
+    static class Repository {
+    }
 }
@@ -20,7 +20,12 @@
 package de.rweisleder.archunit.spring.framework;
 
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -37,5 +42,68 @@ class SpringProxyPredicatesTest {
             DescribedPredicate<JavaMethod> predicate = proxyable();
             assertThat(predicate.getDescription()).isEqualTo("proxyable");
         }
+
+        @Test
+        void matches_the_methods_that_satisfy_the_condition_beProxyable() {
+            JavaClasses classes = new ClassFileImporter().importClasses(
+                    ProxyableService.class, FinalService.class, ServiceInterface.class);
+
+            DescribedPredicate<JavaMethod> predicate = proxyable();
+            ArchCondition<JavaMethod> condition = SpringProxyRules.beProxyable();
+
+            for (JavaClass javaClass : classes) {
+                for (JavaMethod method : javaClass.getMethods()) {
+                    ConditionEvents events = ConditionEvents.Factory.create();
+                    condition.check(method, events);
+                    assertThat(predicate.test(method)).as(method.getFullName()).isEqualTo(!events.containViolation());
+                }
+            }
+        }
+
+        @Test
+        void matches_public_methods_of_non_final_classes() {
+            JavaClasses classes = new ClassFileImporter().importClasses(ProxyableService.class, FinalService.class);
+
+            DescribedPredicate<JavaMethod> predicate = proxyable();
+
+            assertThat(predicate.test(classes.get(ProxyableService.class).getMethod("publicMethod"))).isTrue();
+            assertThat(predicate.test(classes.get(ProxyableService.class).getMethod("finalMethod"))).isFalse();
+            assertThat(predicate.test(classes.get(FinalService.class).getMethod("publicMethod"))).isFalse();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class ProxyableService {
+
+        public void publicMethod() {
+        }
+
+        protected void protectedMethod() {
+        }
+
+        void packagePrivateMethod() {
+        }
+
+        private void privateMethod() {
+        }
+
+        public final void finalMethod() {
+        }
+
+        public static void staticMethod() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class FinalService {
+
+        public void publicMethod() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    interface ServiceInterface {
+
+        void interfaceMethod();
     }
 }
@@ -19,9 +19,17 @@
  */
 package de.rweisleder.archunit.spring.framework;
 
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static com.tngtech.archunit.lang.conditions.ArchConditions.haveNameMatching;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.never;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SpringProxyRulesTest {
@@ -34,6 +42,70 @@ class SpringProxyRulesTest {
             String description = SpringProxyRules.beProxyable().getDescription();
             assertThat(description).isEqualTo("be proxyable");
         }
+
+        @Test
+        void reports_a_final_class_for_each_of_its_methods() {
+            JavaClasses classes = new ClassFileImporter().importClasses(FinalService.class);
+
+            EvaluationResult result = methods().that().areDeclaredIn(FinalService.class)
+                    .should(SpringProxyRules.beProxyable())
+                    .evaluate(classes);
+
+            assertThat(result.getFailureReport().getDetails())
+                    .filteredOn(detail -> detail.contains("has modifier FINAL"))
+                    .containsExactly(
+                            "Class <" + FinalService.class.getName() + "> has modifier FINAL in (SpringProxyRulesTest.java:0)",
+                            "Class <" + FinalService.class.getName() + "> has modifier FINAL in (SpringProxyRulesTest.java:0)");
+        }
+
+        @Test
+        void reports_a_final_class_when_checking_a_single_method() {
+            JavaMethod method = new ClassFileImporter().importClass(FinalService.class).getMethod("first");
+            ConditionEvents events = ConditionEvents.Factory.create();
+
+            SpringProxyRules.beProxyable().check(method, events);
+
+            assertThat(events.getViolating()).singleElement()
+                    .satisfies(event -> assertThat(event.getDescriptionLines()).containsExactly(
+                            "Class <" + FinalService.class.getName() + "> has modifier FINAL in (SpringProxyRulesTest.java:0)"));
+        }
+
+        @Test
+        void reports_a_final_subclass() {
+            JavaClasses classes = new ClassFileImporter().importClasses(NonFinalService.class, FinalSubclassService.class);
+
+            EvaluationResult result = methods().that().areDeclaredIn(NonFinalService.class)
+                    .should(SpringProxyRules.beProxyable())
+                    .evaluate(classes);
+
+            assertThat(result.getFailureReport().getDetails())
+                    .filteredOn(detail -> detail.contains("has modifier FINAL"))
+                    .containsOnly("Class <" + FinalSubclassService.class.getName() + "> has modifier FINAL in (SpringProxyRulesTest.java:0)");
+        }
+
+        @Test
+        void can_be_satisfied_by_another_condition_joined_with_or() {
+            JavaClasses classes = new ClassFileImporter().importClasses(FinalService.class);
+
+            EvaluationResult result = methods().that().areDeclaredIn(FinalService.class)
+                    .should(SpringProxyRules.beProxyable().or(haveNameMatching("first|second")))
+                    .evaluate(classes);
+
+            assertThat(result.hasViolation()).isFalse();
+        }
+
+        @Test
+        void reports_a_non_final_class_when_negated() {
+            JavaClasses classes = new ClassFileImporter().importClasses(NonFinalService.class);
+
+            EvaluationResult result = methods().that().areDeclaredIn(NonFinalService.class)
+                    .should(never(SpringProxyRules.beProxyable()))
+                    .evaluate(classes);
+
+            assertThat(result.getFailureReport().getDetails())
+                    .filteredOn(detail -> detail.startsWith("Class <"))
+                    .containsOnly("Class <" + NonFinalService.class.getName() + "> does not have modifier FINAL in (SpringProxyRulesTest.java:0)");
+        }
     }
 
     @Nested
@@ -44,5 +116,152 @@ class SpringProxyRulesTest {
             String description = SpringProxyRules.notBeCalledFromWithinTheSameClass().getDescription();
             assertThat(description).isEqualTo("not be called from within the same class");
         }
+
+        @Test
+        void reports_a_direct_call() {
+            EvaluationResult result = evaluate(DirectCallService.class);
+
+            assertThat(result.getFailureReport().getDetails()).singleElement().asString()
+                    .contains("Method <" + DirectCallService.class.getName() + ".caller()> calls method <" + DirectCallService.class.getName() + ".advised()>");
+        }
+
+        @Test
+        void reports_a_call_from_a_lambda_and_a_method_reference() {
+            EvaluationResult result = evaluate(MethodReferenceService.class);
+
+            assertThat(result.getFailureReport().getDetails()).hasSize(2)
+                    .anySatisfy(detail -> assertThat(detail).contains("calls method <" + MethodReferenceService.class.getName() + ".advised()>"))
+                    .anySatisfy(detail -> assertThat(detail).contains("references method <" + MethodReferenceService.class.getName() + ".advised()>"));
+        }
+
+        @Test
+        void reports_a_call_from_an_anonymous_class_on_the_enclosing_instance() {
+            EvaluationResult result = evaluate(AnonymousClassService.class);
+
+            assertThat(result.getFailureReport().getDetails()).singleElement().asString()
+                    .contains("Method <" + AnonymousClassService.class.getName() + "$1.run()> calls method <" + AnonymousClassService.class.getName() + ".advised()>");
+        }
+
+        @Test
+        void reports_a_call_from_a_superclass_that_is_dispatched_to_the_method() {
+            EvaluationResult result = evaluate(TemplateMethodService.class);
+
+            assertThat(result.getFailureReport().getDetails()).singleElement().asString()
+                    .contains("Method <" + AbstractTemplateMethodService.class.getName() + ".template()> calls method <" + AbstractTemplateMethodService.class.getName() + ".advised()>");
+        }
+
+        @Test
+        void does_not_report_a_call_on_another_instance() {
+            EvaluationResult result = evaluate(DelegatingService.class);
+
+            assertThat(result.hasViolation()).isFalse();
+        }
+
+        private EvaluationResult evaluate(Class<?> serviceClass) {
+            JavaClasses classes = new ClassFileImporter()
+                    .withImportOption(location -> location.contains(SpringProxyRulesTest.class.getSimpleName()))
+                    .importPackagesOf(serviceClass);
+            return methods().that().areDeclaredIn(serviceClass).and().haveName("advised")
+                    .should(SpringProxyRules.notBeCalledFromWithinTheSameClass())
+                    .evaluate(classes);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class FinalService {
+
+        public void first() {
+        }
+
+        public void second() {
+        }
+    }
+
+    static final class FinalSubclassService extends NonFinalService {
+    }
+
+    @SuppressWarnings("unused")
+    static class NonFinalService {
+
+        public void first() {
+        }
+
+        public void second() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class DirectCallService {
+
+        public void advised() {
+        }
+
+        public void caller() {
+            advised();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class MethodReferenceService {
+
+        public void advised() {
+        }
+
+        public Runnable lambda() {
+            return () -> advised();
+        }
+
+        public Runnable methodReference() {
+            return this::advised;
+        }
+    }
+
+    @SuppressWarnings({"unused", "Convert2Lambda"})
+    static class AnonymousClassService {
+
+        public void advised() {
+        }
+
+        public Runnable anonymousClass() {
+            return new Runnable() {
+                @Override
+                public void run() {
+                    advised();
+                }
+            };
+        }
+    }
+
+    abstract static class AbstractTemplateMethodService {
+
+        public void template() {
+            advised();
+        }
+
+        public abstract void advised();
+    }
+
+    static class TemplateMethodService extends AbstractTemplateMethodService {
+
+        @Override
+        public void advised() {
+        }
+    }
+
+    static class BaseService {
+
+        public void advised() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class DelegatingService extends BaseService {
+
+        private final BaseService delegate = new BaseService();
+
+        @Override
+        public void advised() {
+            delegate.advised();
+        }
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import de.rweisleder.archunit.spring.SpringAnnotationPredicates;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype.COMPONENT;
+import static de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype.SERVICE;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CandidateComponentsIndexTest {
+
+    @TempDir
+    Path classesDir;
+
+    @AfterEach
+    void resetConfiguration() {
+        ArchUnitSpringConfiguration.get().reset();
+        SpringAnnotationPredicates.clearCache();
+    }
+
+    @Test
+    void reads_the_stereotypes_from_the_index_of_the_classpath_root() throws IOException {
+        writeIndex(IndexedService.class.getName() + "=" + Component.class.getName());
+        JavaClasses classes = importClasses(IndexedService.class, UnlistedComponent.class);
+
+        assertThat(CandidateComponentsIndex.get().stereotypes(classes.get(IndexedService.class))).containsExactly(Component.class.getName());
+        assertThat(CandidateComponentsIndex.get().stereotypes(classes.get(UnlistedComponent.class))).isEmpty();
+    }
+
+    @Test
+    void returns_null_without_an_index() throws IOException {
+        JavaClass javaClass = importClasses(IndexedService.class).get(IndexedService.class);
+
+        assertThat(CandidateComponentsIndex.get().stereotypes(javaClass)).isNull();
+    }
+
+    @Test
+    void classifies_classes_that_are_not_in_the_index_as_without_stereotype() throws IOException {
+        ArchUnitSpringConfiguration.get().setUseCandidateComponentsIndex(true);
+        writeIndex(IndexedService.class.getName() + "=" + Component.class.getName());
+        JavaClasses classes = importClasses(IndexedService.class, UnlistedComponent.class);
+
+        assertThat(StereotypeIndex.get().stereotypes(classes.get(IndexedService.class))).containsExactlyInAnyOrder(COMPONENT, SERVICE);
+        assertThat(StereotypeIndex.get().stereotypes(classes.get(UnlistedComponent.class))).isEmpty();
+    }
+
+    @Test
+    void ignores_the_index_by_default() throws IOException {
+        writeIndex(IndexedService.class.getName() + "=" + Component.class.getName());
+        JavaClass javaClass = importClasses(UnlistedComponent.class).get(UnlistedComponent.class);
+
+        assertThat(StereotypeIndex.get().stereotypes(javaClass)).containsExactly(COMPONENT);
+    }
+
+    @Test
+    void detects_an_outdated_index_if_verification_is_enabled() throws IOException {
+        ArchUnitSpringConfiguration.get().setUseCandidateComponentsIndex(true);
+        ArchUnitSpringConfiguration.get().setVerifyCandidateComponentsIndex(true);
+        writeIndex(IndexedService.class.getName() + "=" + Component.class.getName());
+        JavaClasses classes = importClasses(IndexedService.class, UnlistedComponent.class);
+
+        assertThat(StereotypeIndex.get().stereotypes(classes.get(IndexedService.class))).containsExactlyInAnyOrder(COMPONENT, SERVICE);
+        assertThatThrownBy(() -> StereotypeIndex.get().stereotypes(classes.get(UnlistedComponent.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(UnlistedComponent.class.getName());
+    }
+
+    private void writeIndex(String... lines) throws IOException {
+        Path index = classesDir.resolve(CandidateComponentsIndex.COMPONENTS_RESOURCE_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, singletonList(String.join("\n", lines)), ISO_8859_1);
+    }
+
+    /**
+     * Copies the class files of the given classes into a separate classpath root and imports them from there.
+     */
+    private JavaClasses importClasses(Class<?>... classes) throws IOException {
+        for (Class<?> type : classes) {
+            String classFile = type.getName().replace('.', '/') + ".class";
+            Path target = classesDir.resolve(classFile);
+            Files.createDirectories(target.getParent());
+            try (InputStream input = type.getClassLoader().getResourceAsStream(classFile)) {
+                Files.copy(input, target);
+            }
+        }
+        return new ClassFileImporter().importPath(classesDir);
+    }
+
+    @Service
+    static class IndexedService {
+    }
+
+    @Component
+    static class UnlistedComponent {
+    }
+}
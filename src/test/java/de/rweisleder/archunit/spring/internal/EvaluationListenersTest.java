@@ -0,0 +1,79 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import de.rweisleder.archunit.spring.EvaluationMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class EvaluationListenersTest {
+
+    private final ArchUnitSpringConfiguration configuration = ArchUnitSpringConfiguration.get();
+
+    @AfterEach
+    void resetConfiguration() {
+        configuration.reset();
+    }
+
+    @Test
+    void is_active_while_a_listener_is_registered() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        assertThat(EvaluationListeners.isActive()).isFalse();
+
+        configuration.addEvaluationListener(metrics);
+        assertThat(EvaluationListeners.isActive()).isTrue();
+
+        configuration.removeEvaluationListener(metrics);
+        assertThat(EvaluationListeners.isActive()).isFalse();
+
+        configuration.addEvaluationListener(metrics);
+        configuration.reset();
+        assertThat(EvaluationListeners.isActive()).isFalse();
+    }
+
+    @Test
+    void does_not_allocate_to_check_whether_a_listener_is_registered() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+
+        int activeChecks = 0;
+        long allocatedBytesBefore = allocationMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            if (EvaluationListeners.isActive()) {
+                activeChecks++;
+            }
+        }
+        long allocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        assertThat(activeChecks).isZero();
+        // allows for the allocations of the measurement itself
+        assertThat(allocatedBytes).isLessThan(1024);
+    }
+}
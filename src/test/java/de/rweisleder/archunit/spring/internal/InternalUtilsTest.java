@@ -0,0 +1,165 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Async;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalUtilsTest {
+
+    @Nested
+    class Transformer_availableMethods {
+
+        @Test
+        void contains_the_declared_and_inherited_methods_of_all_classes_once() {
+            JavaClasses classes = new ClassFileImporter().importClasses(
+                    FirstService.class, SecondService.class, AbstractService.class);
+
+            List<JavaMethod> availableMethods = new ArrayList<>();
+            InternalUtils.availableMethods().transform(classes).forEach(availableMethods::add);
+
+            Set<JavaMethod> expectedMethods = new HashSet<>();
+            for (JavaClass javaClass : classes) {
+                expectedMethods.addAll(javaClass.getAllMethods());
+            }
+            assertThat(availableMethods).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expectedMethods);
+        }
+
+        @Test
+        void contains_the_methods_of_supertypes_that_were_not_imported() {
+            JavaClasses classes = new ClassFileImporter().importClasses(FirstService.class);
+
+            List<String> methodNames = new ArrayList<>();
+            InternalUtils.availableMethods().transform(classes).forEach(method -> methodNames.add(method.getFullName()));
+
+            assertThat(methodNames)
+                    .contains(FirstService.class.getName() + ".first()")
+                    .contains(AbstractService.class.getName() + ".inherited()")
+                    .contains(Service.class.getName() + ".withDefault()")
+                    .contains(Object.class.getName() + ".toString()")
+                    .doesNotHaveDuplicates();
+        }
+    }
+
+    @Nested
+    class Transformer_availableMethodsAnnotatedWith {
+
+        @Test
+        void contains_only_the_methods_annotated_with_the_given_annotation_types() {
+            JavaClasses classes = new ClassFileImporter().importClasses(CachingService.class);
+
+            List<String> methodNames = new ArrayList<>();
+            InternalUtils.availableMethodsAnnotatedWith(Cacheable.class.getName(), CacheEvict.class.getName())
+                    .transform(classes).forEach(method -> methodNames.add(method.getName()));
+
+            assertThat(methodNames).containsExactlyInAnyOrder("cached", "evicted", "metaAnnotated");
+        }
+
+        @Test
+        void contains_the_methods_declared_in_classes_annotated_with_the_given_annotation_types() {
+            JavaClasses classes = new ClassFileImporter().importClasses(AsyncService.class, CachingService.class);
+
+            List<String> methodNames = new ArrayList<>();
+            InternalUtils.availableMethodsAnnotatedOrDeclaredInClassAnnotatedWith(Async.class.getName())
+                    .transform(classes).forEach(method -> methodNames.add(method.getName()));
+
+            assertThat(methodNames).containsExactlyInAnyOrder("async", "asyncToo");
+        }
+    }
+
+    interface Service {
+
+        default void withDefault() {
+        }
+    }
+
+    abstract static class AbstractService implements Service {
+
+        public void inherited() {
+        }
+    }
+
+    static class FirstService extends AbstractService {
+
+        public void first() {
+        }
+    }
+
+    static class SecondService extends AbstractService {
+
+        public void second() {
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Cacheable("meta")
+    @interface CacheableByMetaAnnotation {
+    }
+
+    @SuppressWarnings("unused")
+    static class CachingService {
+
+        @Cacheable("cached")
+        public void cached() {
+        }
+
+        @CacheEvict("evicted")
+        public void evicted() {
+        }
+
+        @CacheableByMetaAnnotation
+        public void metaAnnotated() {
+        }
+
+        @Deprecated
+        public void otherAnnotation() {
+        }
+
+        public void notAnnotated() {
+        }
+    }
+
+    @Async
+    @SuppressWarnings("unused")
+    static class AsyncService {
+
+        public void async() {
+        }
+
+        public void asyncToo() {
+        }
+    }
+}
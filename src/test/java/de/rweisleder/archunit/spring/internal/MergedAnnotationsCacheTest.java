@@ -0,0 +1,99 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MergedAnnotationsCacheTest {
+
+    private final MergedAnnotationsCache cache = new MergedAnnotationsCache();
+
+    @AfterEach
+    void resetConfiguration() {
+        ArchUnitSpringConfiguration.get().reset();
+    }
+
+    @Test
+    void caches_elements_that_cannot_be_resolved() {
+        JavaClass javaClass = new ClassFileImporter().importClass(MergedAnnotationsCacheTest.class);
+        AtomicInteger resolverCalls = new AtomicInteger();
+
+        cache.get(javaClass, annotated -> {
+            resolverCalls.incrementAndGet();
+            return null;
+        });
+
+        assertThat(cache.get(javaClass, annotated -> {
+            resolverCalls.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(resolverCalls).hasValue(1);
+    }
+
+    @Test
+    void evicts_the_least_recently_used_entries_once_the_cache_is_full() {
+        ArchUnitSpringConfiguration.get().setMergedAnnotationsCacheSize(1);
+        JavaClass first = new ClassFileImporter().importClass(MergedAnnotationsCacheTest.class);
+        JavaClass second = new ClassFileImporter().importClass(MergedAnnotationsCache.class);
+        AtomicInteger resolverCalls = new AtomicInteger();
+
+        cache.get(first, annotated -> {
+            resolverCalls.incrementAndGet();
+            return null;
+        });
+        cache.get(second, annotated -> {
+            resolverCalls.incrementAndGet();
+            return null;
+        });
+        cache.get(second, annotated -> {
+            resolverCalls.incrementAndGet();
+            return null;
+        });
+        assertThat(resolverCalls).hasValue(2);
+
+        cache.get(first, annotated -> {
+            resolverCalls.incrementAndGet();
+            return null;
+        });
+        assertThat(resolverCalls).hasValue(3);
+    }
+
+    @Test
+    void forgets_the_entries_of_garbage_collected_elements() {
+        JavaClass javaClass = new ClassFileImporter().importClass(MergedAnnotationsCacheTest.class);
+        cache.get(javaClass, annotated -> null);
+
+        Reference<CanBeAnnotated> reference = cache.cache.referenceTo(javaClass);
+        reference.clear();
+        reference.enqueue();
+
+        assertThat(cache.cache.size()).isZero();
+    }
+}
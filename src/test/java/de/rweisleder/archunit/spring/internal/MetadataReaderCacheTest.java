@@ -0,0 +1,117 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataReaderCacheTest {
+
+    private static final String A = "java.lang.String";
+    private static final String B = "java.lang.Integer";
+    private static final String C = "java.lang.Long";
+
+    private final List<String> readClassNames = new ArrayList<>();
+
+    private final MetadataReaderCache cache = new MetadataReaderCache();
+
+    @BeforeEach
+    void configureFactory() {
+        ArchUnitSpringConfiguration.get().setMetadataReaderFactory(new SimpleMetadataReaderFactory() {
+            @Override
+            public MetadataReader getMetadataReader(String className) throws IOException {
+                readClassNames.add(className);
+                return super.getMetadataReader(className);
+            }
+        });
+        ArchUnitSpringConfiguration.get().setMetadataReaderCacheSize(2);
+    }
+
+    @AfterEach
+    void resetConfiguration() {
+        ArchUnitSpringConfiguration.get().reset();
+    }
+
+    @Test
+    void counts_hits_and_misses() throws IOException {
+        MetadataReader metadataReader = cache.getMetadataReader(A);
+
+        assertThat(cache.getMetadataReader(A)).isSameAs(metadataReader);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(readClassNames).containsExactly(A);
+    }
+
+    @Test
+    void evicts_the_least_recently_used_entry() throws IOException {
+        cache.getMetadataReader(A);
+        cache.getMetadataReader(B);
+        cache.getMetadataReader(A);
+        cache.getMetadataReader(C);
+
+        assertThat(cache.size()).isEqualTo(2);
+        readClassNames.clear();
+
+        cache.getMetadataReader(A);
+        cache.getMetadataReader(C);
+        assertThat(readClassNames).isEmpty();
+
+        cache.getMetadataReader(B);
+        assertThat(readClassNames).containsExactly(B);
+    }
+
+    @Test
+    void does_not_cache_if_the_size_is_zero() throws IOException {
+        ArchUnitSpringConfiguration.get().setMetadataReaderCacheSize(0);
+
+        cache.getMetadataReader(A);
+        cache.getMetadataReader(A);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(readClassNames).containsExactly(A, A);
+    }
+
+    @Test
+    void evicts_single_entries_and_resets_the_statistics_when_cleared() throws IOException {
+        cache.getMetadataReader(A);
+        cache.getMetadataReader(B);
+
+        cache.evict(A);
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.getMetadataReader(B);
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+    }
+}
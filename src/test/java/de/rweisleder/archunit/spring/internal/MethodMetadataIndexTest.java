@@ -0,0 +1,99 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MethodMetadataIndexTest {
+
+    private final MethodMetadataIndex methodMetadataIndex = new MethodMetadataIndex();
+
+    @Test
+    void distinguishes_overloaded_methods() throws IOException {
+        JavaClass javaClass = new ClassFileImporter().importClass(BookService.class);
+        MetadataReader metadataReader = new SimpleMetadataReaderFactory().getMetadataReader(BookService.class.getName());
+
+        JavaMethod findBookByIsbn = javaClass.getMethod("findBook", String.class);
+        JavaMethod findBookById = javaClass.getMethod("findBook", long.class);
+        JavaMethod findBooks = javaClass.getMethod("findBooks", String[].class);
+
+        MethodMetadata findBookByIsbnMetadata = methodMetadataIndex.find(metadataReader, findBookByIsbn);
+        MethodMetadata findBookByIdMetadata = methodMetadataIndex.find(metadataReader, findBookById);
+        MethodMetadata findBooksMetadata = methodMetadataIndex.find(metadataReader, findBooks);
+
+        assertThat(findBookByIsbnMetadata).isNotNull();
+        assertThat(findBookByIsbnMetadata.getAnnotations().isPresent(Cacheable.class)).isTrue();
+        assertThat(findBookByIdMetadata).isNotNull();
+        assertThat(findBookByIdMetadata.getAnnotations().isPresent(Cacheable.class)).isFalse();
+        assertThat(findBooksMetadata).isNotNull();
+        assertThat(findBooksMetadata.getAnnotations().isPresent(Cacheable.class)).isTrue();
+    }
+
+    @Test
+    void distinguishes_methods_from_their_bridge_methods() throws IOException {
+        JavaClass javaClass = new ClassFileImporter().importClass(Book.class);
+        MetadataReader metadataReader = new SimpleMetadataReaderFactory().getMetadataReader(Book.class.getName());
+
+        MethodMetadata compareToBookMetadata = methodMetadataIndex.find(metadataReader, javaClass.getMethod("compareTo", Book.class));
+        MethodMetadata compareToObjectMetadata = methodMetadataIndex.find(metadataReader, javaClass.getMethod("compareTo", Object.class));
+
+        assertThat(compareToBookMetadata).isNotNull();
+        assertThat(compareToBookMetadata.getAnnotations().isPresent(Cacheable.class)).isTrue();
+        assertThat(compareToObjectMetadata).isNull();
+    }
+
+    static class Book implements Comparable<Book> {
+
+        @Cacheable("books")
+        @Override
+        public int compareTo(Book other) {
+            return 0;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class BookService {
+
+        @Cacheable("books")
+        public Object findBook(String isbn) {
+            return null;
+        }
+
+        public Object findBook(long id) {
+            return null;
+        }
+
+        @Cacheable("books")
+        public Object[] findBooks(String... isbns) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import de.rweisleder.archunit.spring.SpringAnnotationPredicates;
+import de.rweisleder.archunit.spring.internal.MetaAnnotationIndex.ImpliedAnnotationTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static de.rweisleder.archunit.spring.SpringAnnotationPredicates.springAnnotatedWith;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistentAnnotationIndexTest {
+
+    private static final BytecodeHash OTHER_HASH = BytecodeHash.parse("00000000000000000000000000000000");
+
+    @TempDir
+    Path tempDir;
+
+    private final JavaClass serviceClass = new ClassFileImporter().importClass(IndexedService.class);
+
+    private final BytecodeHash serviceClassHash = BytecodeHash.of(serviceClass).orElseThrow(IllegalStateException::new);
+
+    @AfterEach
+    void resetConfiguration() {
+        ArchUnitSpringConfiguration.get().reset();
+        SpringAnnotationPredicates.clearCache();
+    }
+
+    @Test
+    void persists_the_annotations_of_a_class_and_its_members_when_saved() {
+        Path file = tempDir.resolve("target").resolve("annotation-index.bin");
+        ArchUnitSpringConfiguration.get().setAnnotationIndexFile(file);
+
+        assertThat(springAnnotatedWith(Component.class).test(serviceClass)).isTrue();
+        assertThat(file).doesNotExist();
+        SpringAnnotationPredicates.saveAnnotationIndex();
+
+        assertThat(file).isRegularFile();
+        Map<String, ImpliedAnnotationTypes> elements = new PersistentAnnotationIndex(file).lookup(IndexedService.class.getName(), serviceClassHash);
+        assertThat(elements).isNotNull();
+        assertThat(elements.get("").annotationTypeNames).containsExactlyInAnyOrder(Service.class.getName(), Component.class.getName(),
+                "org.springframework.stereotype.Indexed");
+        assertThat(elements.get(".findBook(java.lang.String)").annotationTypeNames).contains(Cacheable.class.getName());
+        assertThat(elements).doesNotContainKey(".<init>()");
+    }
+
+    @Test
+    void looks_up_the_annotations_of_an_unchanged_class() {
+        Path file = tempDir.resolve("annotation-index.bin");
+        PersistentAnnotationIndex index = new PersistentAnnotationIndex(file);
+        index.store(IndexedService.class.getName(), serviceClassHash, singletonMap("", annotationTypes("com.example.Indexed")), emptySet());
+        index.save();
+
+        ArchUnitSpringConfiguration.get().setAnnotationIndexFile(file);
+
+        assertThat(springAnnotatedWith("com.example.Indexed").test(serviceClass)).isTrue();
+        assertThat(springAnnotatedWith(Component.class).test(serviceClass)).isFalse();
+    }
+
+    @Test
+    void resolves_the_annotations_of_a_changed_class_again() {
+        Path file = tempDir.resolve("annotation-index.bin");
+        PersistentAnnotationIndex index = new PersistentAnnotationIndex(file);
+        index.store(IndexedService.class.getName(), OTHER_HASH, singletonMap("", annotationTypes("com.example.Indexed")), emptySet());
+        index.save();
+
+        ArchUnitSpringConfiguration.get().setAnnotationIndexFile(file);
+
+        assertThat(springAnnotatedWith("com.example.Indexed").test(serviceClass)).isFalse();
+        assertThat(springAnnotatedWith(Component.class).test(serviceClass)).isTrue();
+    }
+
+    @Test
+    void resolves_the_annotations_of_a_class_again_if_one_of_its_annotation_types_has_changed() throws IOException {
+        Path file = tempDir.resolve("annotation-index.bin");
+        PersistentAnnotationIndex index = new PersistentAnnotationIndex(file);
+        index.store(IndexedService.class.getName(), serviceClassHash, singletonMap("", annotationTypes(Marker.class.getName())),
+                singleton(Marker.class.getName()));
+        index.save();
+        assertThat(new PersistentAnnotationIndex(file).lookup(IndexedService.class.getName(), serviceClassHash)).isNotNull();
+
+        // another class file under the name of the annotation type, as if the annotation type had been changed
+        Path classesDir = tempDir.resolve("classes");
+        Path changedClassFile = classesDir.resolve(Marker.class.getName().replace('.', '/') + ".class");
+        Files.createDirectories(changedClassFile.getParent());
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(IndexedService.class.getName().replace('.', '/') + ".class")) {
+            Files.copy(input, changedClassFile);
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDir.toUri().toURL()}, null)) {
+            thread.setContextClassLoader(classLoader);
+            assertThat(new PersistentAnnotationIndex(file).lookup(IndexedService.class.getName(), serviceClassHash)).isNull();
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+    @Test
+    void stores_classes_with_annotation_types_without_bytecode() {
+        PersistentAnnotationIndex index = new PersistentAnnotationIndex(tempDir.resolve("annotation-index.bin"));
+
+        index.store(IndexedService.class.getName(), serviceClassHash, singletonMap("", annotationTypes("com.example.Missing")),
+                singleton("com.example.Missing"));
+
+        assertThat(index.lookup(IndexedService.class.getName(), serviceClassHash)).isNotNull();
+    }
+
+    @Test
+    void removes_the_entries_that_were_not_used_when_saving() {
+        Path file = tempDir.resolve("annotation-index.bin");
+        PersistentAnnotationIndex index = new PersistentAnnotationIndex(file);
+        index.store(IndexedService.class.getName(), serviceClassHash, singletonMap("", annotationTypes(Service.class.getName())), emptySet());
+        index.store(Marker.class.getName(), serviceClassHash, singletonMap("", annotationTypes(Retention.class.getName())), emptySet());
+        index.save();
+
+        PersistentAnnotationIndex nextRun = new PersistentAnnotationIndex(file);
+        assertThat(nextRun.lookup(IndexedService.class.getName(), serviceClassHash)).isNotNull();
+        nextRun.save();
+
+        PersistentAnnotationIndex runAfterNextRun = new PersistentAnnotationIndex(file);
+        assertThat(runAfterNextRun.lookup(IndexedService.class.getName(), serviceClassHash)).isNotNull();
+        assertThat(runAfterNextRun.lookup(Marker.class.getName(), serviceClassHash)).isNull();
+    }
+
+    @Test
+    void ignores_an_unreadable_file() throws IOException {
+        Path file = tempDir.resolve("annotation-index.bin");
+        Files.write(file, new byte[]{1, 2, 3});
+
+        PersistentAnnotationIndex index = new PersistentAnnotationIndex(file);
+
+        assertThat(index.lookup(IndexedService.class.getName(), serviceClassHash)).isNull();
+    }
+
+    private static ImpliedAnnotationTypes annotationTypes(String annotationTypeName) {
+        return new ImpliedAnnotationTypes(singleton(annotationTypeName), emptySet());
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    @Service
+    @SuppressWarnings("unused")
+    static class IndexedService {
+
+        @Cacheable("books")
+        public Object findBook(String isbn) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReflectionFailureCacheTest {
+
+    private final ReflectionFailureCache cache = new ReflectionFailureCache();
+
+    @Test
+    void forgets_garbage_collected_classes() {
+        JavaClass javaClass = new ClassFileImporter().importClass(ReflectionFailureCacheTest.class);
+        cache.markAsFailed(javaClass);
+
+        Reference<CanBeAnnotated> reference = cache.failedElements.referenceTo(javaClass);
+        reference.clear();
+        reference.enqueue();
+
+        assertThat(cache.failedElements.size()).isZero();
+    }
+
+    @Test
+    void forgets_evicted_classes() {
+        JavaClass javaClass = new ClassFileImporter().importClass(ReflectionFailureCacheTest.class);
+        JavaClass otherClass = new ClassFileImporter().importClass(ReflectionFailureCache.class);
+        cache.markAsFailed(javaClass);
+        cache.markAsFailed(otherClass);
+
+        cache.evict(javaClass);
+        assertThat(cache.hasFailed(javaClass)).isFalse();
+        assertThat(cache.hasFailed(otherClass)).isTrue();
+
+        cache.clear();
+        assertThat(cache.hasFailed(otherClass)).isFalse();
+    }
+
+    @Test
+    void considers_the_members_of_a_failed_class_as_failed() {
+        JavaClass javaClass = new ClassFileImporter().importClass(ReflectionFailureCacheTest.class);
+
+        cache.markAsFailed(javaClass);
+
+        assertThat(cache.hasFailed(javaClass.getMethod("considers_the_members_of_a_failed_class_as_failed"))).isTrue();
+    }
+
+    @Test
+    void does_not_consider_the_class_or_other_members_of_a_failed_member_as_failed() {
+        JavaClass javaClass = new ClassFileImporter().importClass(ReflectionFailureCacheTest.class);
+        JavaMethod failedMethod = javaClass.getMethod("does_not_consider_the_class_or_other_members_of_a_failed_member_as_failed");
+
+        cache.markAsFailed(failedMethod);
+
+        assertThat(cache.hasFailed(failedMethod)).isTrue();
+        assertThat(cache.hasFailed(javaClass)).isFalse();
+        assertThat(cache.hasFailed(javaClass.getMethod("considers_the_members_of_a_failed_class_as_failed"))).isFalse();
+
+        cache.evict(javaClass);
+        assertThat(cache.hasFailed(failedMethod)).isFalse();
+    }
+}
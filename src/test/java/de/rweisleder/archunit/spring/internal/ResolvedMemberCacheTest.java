@@ -0,0 +1,126 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.AccessTarget;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResolvedMemberCacheTest {
+
+    private final ResolvedMemberCache resolvedMemberCache = new ResolvedMemberCache();
+
+    @Test
+    void resolves_targets_of_different_accesses_to_the_same_member() {
+        JavaClasses classes = new ClassFileImporter().importClasses(Caller.class, Callee.class, BaseCallee.class);
+        List<AccessTarget> targets = callsTo(classes.get(Caller.class), "run");
+
+        assertThat(targets).hasSize(2);
+        assertThat(targets.get(0)).isNotSameAs(targets.get(1));
+
+        Optional<JavaMember> first = resolvedMemberCache.resolveMember(targets.get(0));
+        Optional<JavaMember> second = resolvedMemberCache.resolveMember(targets.get(1));
+        assertThat(first).containsSame(classes.get(BaseCallee.class).getMethod("run"));
+        assertThat(second).containsSame(first.get());
+    }
+
+    @Test
+    void keeps_the_results_of_different_imports_apart() {
+        AccessTarget target = callsTo(new ClassFileImporter().importClasses(Caller.class, Callee.class, BaseCallee.class).get(Caller.class), "run").get(0);
+        JavaClasses otherClasses = new ClassFileImporter().importClasses(Caller.class, Callee.class, BaseCallee.class);
+        AccessTarget otherTarget = callsTo(otherClasses.get(Caller.class), "run").get(0);
+
+        resolvedMemberCache.resolveMember(target);
+
+        assertThat(resolvedMemberCache.resolveMember(otherTarget)).containsSame(otherClasses.get(BaseCallee.class).getMethod("run"));
+    }
+
+    @Test
+    void resolves_targets_whose_member_cannot_be_resolved_to_empty() {
+        JavaClasses classes;
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(false);
+        try {
+            classes = new ClassFileImporter().importClasses(Caller.class);
+        } finally {
+            ArchConfiguration.get().reset();
+        }
+        AccessTarget target = callsTo(classes.get(Caller.class), "length").get(0);
+
+        assertThat(resolvedMemberCache.resolveMember(target)).isEmpty();
+        assertThat(resolvedMemberCache.resolveMember(target)).isEmpty();
+    }
+
+    @Test
+    void forgets_the_results_of_garbage_collected_owners() {
+        JavaClasses classes = new ClassFileImporter().importClasses(Caller.class, Callee.class, BaseCallee.class);
+        AccessTarget target = callsTo(classes.get(Caller.class), "run").get(0);
+        resolvedMemberCache.resolveMember(target);
+
+        Reference<JavaClass> ownerReference = resolvedMemberCache.resolvedMembers.referenceTo(target.getOwner());
+        ownerReference.clear();
+        ownerReference.enqueue();
+
+        assertThat(resolvedMemberCache.resolvedMembers.size()).isZero();
+    }
+
+    private static List<AccessTarget> callsTo(JavaClass caller, String methodName) {
+        return caller.getMethodCallsFromSelf().stream()
+                .map(JavaMethodCall::getTarget)
+                .filter(target -> target.getName().equals(methodName))
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unused")
+    static class Caller {
+
+        void first(Callee callee) {
+            callee.run();
+        }
+
+        void second(Callee callee) {
+            callee.run();
+        }
+
+        int third(String value) {
+            return value.length();
+        }
+    }
+
+    static class BaseCallee {
+
+        void run() {
+        }
+    }
+
+    static class Callee extends BaseCallee {
+    }
+}
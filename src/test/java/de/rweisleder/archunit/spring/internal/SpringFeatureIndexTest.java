@@ -0,0 +1,118 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import de.rweisleder.archunit.spring.ArchUnitSpringConfiguration;
+import de.rweisleder.archunit.spring.EvaluationListener;
+import de.rweisleder.archunit.spring.internal.SpringFeatureIndex.Feature;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringFeatureIndexTest {
+
+    private final SpringFeatureIndex springFeatureIndex = SpringFeatureIndex.get();
+
+    @Test
+    void detects_the_features_used_by_declared_and_inherited_methods() {
+        JavaClasses classes = new ClassFileImporter().importClasses(BookService.class, CachingBookService.class);
+
+        assertThat(springFeatureIndex.usesFeature(singletonList(classes.get(BookService.class)), Feature.SCHEDULING)).isTrue();
+        assertThat(springFeatureIndex.usesFeature(singletonList(classes.get(BookService.class)), Feature.CACHING)).isFalse();
+        assertThat(springFeatureIndex.usesFeature(singletonList(classes.get(CachingBookService.class)), Feature.SCHEDULING)).isTrue();
+        assertThat(springFeatureIndex.usesFeature(singletonList(classes.get(CachingBookService.class)), Feature.CACHING)).isTrue();
+        assertThat(springFeatureIndex.usesFeature(singletonList(classes.get(CachingBookService.class)), Feature.ASYNC)).isFalse();
+    }
+
+    @Test
+    void detects_the_features_enabled_by_a_class() {
+        JavaClasses classes = new ClassFileImporter().importClasses(Application.class, BookService.class);
+
+        assertThat(springFeatureIndex.enablesFeature(classes.get(Application.class), Feature.CACHING)).isTrue();
+        assertThat(springFeatureIndex.enablesFeature(classes.get(Application.class), Feature.SCHEDULING)).isTrue();
+        assertThat(springFeatureIndex.enablesFeature(classes.get(Application.class), Feature.ASYNC)).isFalse();
+        assertThat(springFeatureIndex.enablesFeature(classes.get(BookService.class), Feature.CACHING)).isFalse();
+    }
+
+    @Test
+    void forgets_the_results_of_garbage_collected_classes() {
+        JavaClass javaClass = new ClassFileImporter().importClass(Application.class);
+        assertThat(springFeatureIndex.enablesFeature(javaClass, Feature.CACHING)).isTrue();
+
+        Reference<JavaClass> reference = springFeatureIndex.enabledFeatures.referenceTo(javaClass);
+        reference.clear();
+        reference.enqueue();
+
+        assertThat(springFeatureIndex.enabledFeatures.referenceTo(javaClass)).isNull();
+    }
+
+    @Test
+    void detects_only_the_queried_feature() {
+        JavaClasses classes = new ClassFileImporter().importClasses(BookService.class);
+        List<String> evaluatedPredicates = new CopyOnWriteArrayList<>();
+        ArchUnitSpringConfiguration.get().addEvaluationListener(new EvaluationListener() {
+            @Override
+            public void predicateEvaluated(String description, long durationNanos) {
+                evaluatedPredicates.add(description);
+            }
+        });
+        try {
+            springFeatureIndex.usesFeature(singletonList(classes.get(BookService.class)), Feature.SCHEDULING);
+        } finally {
+            ArchUnitSpringConfiguration.get().reset();
+        }
+
+        assertThat(evaluatedPredicates).isNotEmpty().allMatch(description -> description.contains("@Scheduled"));
+    }
+
+    @EnableCaching
+    @EnableScheduling
+    static class Application {
+    }
+
+    @SuppressWarnings("unused")
+    static class BookService {
+
+        @Scheduled(fixedRate = 1000)
+        public void refreshBooks() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class CachingBookService extends BookService {
+
+        @Cacheable("books")
+        public Object findBook(String isbn) {
+            return null;
+        }
+    }
+}
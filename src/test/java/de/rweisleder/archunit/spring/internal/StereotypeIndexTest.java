@@ -0,0 +1,91 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import de.rweisleder.archunit.spring.SpringApplicationModel.Stereotype;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+
+import java.lang.ref.Reference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StereotypeIndexTest {
+
+    private final StereotypeIndex stereotypeIndex = StereotypeIndex.get();
+
+    private final JavaClasses classes = new ClassFileImporter().importClasses(
+            DemoController.class, DemoService.class, DemoRepository.class, DemoConfiguration.class, DemoValue.class);
+
+    @Test
+    void classifies_classes_by_stereotype() {
+        assertThat(stereotypeIndex.stereotypes(classes.get(DemoController.class))).containsExactly(Stereotype.COMPONENT, Stereotype.CONTROLLER);
+        assertThat(stereotypeIndex.stereotypes(classes.get(DemoService.class))).containsExactly(Stereotype.COMPONENT, Stereotype.SERVICE);
+        assertThat(stereotypeIndex.stereotypes(classes.get(DemoRepository.class))).containsExactly(Stereotype.COMPONENT, Stereotype.REPOSITORY);
+        assertThat(stereotypeIndex.stereotypes(classes.get(DemoConfiguration.class))).containsExactly(Stereotype.COMPONENT, Stereotype.CONFIGURATION);
+        assertThat(stereotypeIndex.stereotypes(classes.get(DemoValue.class))).isEmpty();
+    }
+
+    @Test
+    void matches_any_of_the_stereotypes_in_a_mask() {
+        int mask = StereotypeIndex.bit(Stereotype.CONTROLLER) | StereotypeIndex.bit(Stereotype.SERVICE);
+
+        assertThat(stereotypeIndex.hasAnyStereotype(classes.get(DemoController.class), mask)).isTrue();
+        assertThat(stereotypeIndex.hasAnyStereotype(classes.get(DemoService.class), mask)).isTrue();
+        assertThat(stereotypeIndex.hasAnyStereotype(classes.get(DemoRepository.class), mask)).isFalse();
+    }
+
+    @Test
+    void forgets_the_stereotypes_of_garbage_collected_classes() {
+        JavaClass javaClass = classes.get(DemoService.class);
+        stereotypeIndex.stereotypeBits(javaClass);
+
+        Reference<JavaClass> reference = stereotypeIndex.stereotypes.referenceTo(javaClass);
+        reference.clear();
+        reference.enqueue();
+
+        assertThat(stereotypeIndex.stereotypes.referenceTo(javaClass)).isNull();
+    }
+
+    @Controller
+    static class DemoController {
+    }
+
+    @Service
+    static class DemoService {
+    }
+
+    @Repository
+    static class DemoRepository {
+    }
+
+    @Configuration
+    static class DemoConfiguration {
+    }
+
+    static class DemoValue {
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * #%L
+ * ArchUnit Spring Integration
+ * %%
+ * Copyright (C) 2023 - 2026 Roland Weisleder
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.rweisleder.archunit.spring.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeakIdentityMapTest {
+
+    private final WeakIdentityMap<Object, String> map = new WeakIdentityMap<>();
+
+    @Test
+    void compares_the_keys_by_identity() {
+        String key = new String("key");
+        map.put(key, "value");
+
+        assertThat(map.get(key)).isEqualTo("value");
+        assertThat(map.get(new String("key"))).isNull();
+    }
+
+    @Test
+    void removes_the_entries_of_garbage_collected_keys() {
+        Object key = new Object();
+        Object otherKey = new Object();
+        map.put(key, "value");
+        map.put(otherKey, "other value");
+
+        Reference<Object> reference = map.referenceTo(key);
+        reference.clear();
+        reference.enqueue();
+
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(otherKey)).isEqualTo("other value");
+    }
+
+    @Test
+    void evicts_the_least_recently_used_entries_when_trimming() {
+        Object first = new Object();
+        Object second = new Object();
+        Object third = new Object();
+        map.put(first, "first");
+        map.put(second, "second");
+        map.put(third, "third");
+        map.get(first);
+
+        map.trimToSize(2);
+
+        assertThat(map.get(first)).isEqualTo("first");
+        assertThat(map.get(second)).isNull();
+        assertThat(map.get(third)).isEqualTo("third");
+    }
+
+    @Test
+    void computes_absent_values_only_once() {
+        Object key = new Object();
+
+        assertThat(map.computeIfAbsent(key, k -> "value")).isEqualTo("value");
+        assertThat(map.computeIfAbsent(key, k -> "other value")).isEqualTo("value");
+    }
+}